@@ -0,0 +1,48 @@
+package com.example.usermanagementapi.benchmark;
+
+import com.example.usermanagementapi.dto.UserRequestDto;
+import com.example.usermanagementapi.dto.UserResponseDto;
+import com.example.usermanagementapi.model.User;
+import java.time.LocalDate;
+
+final class BenchmarkUsers {
+    static final LocalDate BIRTH_DATE = LocalDate.of(1995, 5, 2);
+
+    private BenchmarkUsers() {
+    }
+
+    static User user(long id) {
+        return User.builder()
+                .id(id)
+                .email("user" + id + "@example.com")
+                .firstName("Ann")
+                .lastName("Duncan")
+                .birthDate(BIRTH_DATE)
+                .address("221B Baker Street")
+                .phoneNumber("0123456789")
+                .build();
+    }
+
+    static UserRequestDto requestDto(long id) {
+        return UserRequestDto.builder()
+                .email("user" + id + "@example.com")
+                .firstName("Ann")
+                .lastName("Duncan")
+                .birthDate(BIRTH_DATE)
+                .address("221B Baker Street")
+                .phoneNumber("0123456789")
+                .build();
+    }
+
+    static UserResponseDto responseDto(long id) {
+        return UserResponseDto.builder()
+                .id(id)
+                .email("user" + id + "@example.com")
+                .firstName("Ann")
+                .lastName("Duncan")
+                .birthDate(BIRTH_DATE)
+                .address("221B Baker Street")
+                .phoneNumber("0123456789")
+                .build();
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.usermanagementapi.benchmark;
+
+import com.example.usermanagementapi.dto.UserRequestDto;
+import com.example.usermanagementapi.dto.UserResponseDto;
+import com.example.usermanagementapi.mapper.UserRequestDtoMapper;
+import com.example.usermanagementapi.mapper.UserResponseDtoMapper;
+import com.example.usermanagementapi.mapper.impl.UserRequestDtoMapperImpl;
+import com.example.usermanagementapi.mapper.impl.UserResponseDtoMapperImpl;
+import com.example.usermanagementapi.model.User;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+    private final UserRequestDtoMapper requestDtoMapper = new UserRequestDtoMapperImpl();
+    private final UserResponseDtoMapper responseDtoMapper = new UserResponseDtoMapperImpl();
+    private final UserRequestDto userRequestDto = BenchmarkUsers.requestDto(1L);
+    private final User user = BenchmarkUsers.user(1L);
+
+    @Benchmark
+    public User requestDtoToModel() {
+        return requestDtoMapper.mapToModel(userRequestDto);
+    }
+
+    @Benchmark
+    public UserResponseDto modelToResponseDto() {
+        return responseDtoMapper.mapToDto(user);
+    }
+}
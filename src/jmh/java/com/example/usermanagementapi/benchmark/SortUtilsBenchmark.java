@@ -0,0 +1,37 @@
+package com.example.usermanagementapi.benchmark;
+
+import com.example.usermanagementapi.util.SortUtils;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Sort;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SortUtilsBenchmark {
+    @Param({"id", "birthDate:ASC;lastName:DESC;id:ASC"})
+    private String sortBy;
+    private final SortUtils sortUtils = new SortUtils();
+
+    @Benchmark
+    public Sort createSort_cached() {
+        return sortUtils.createSort(sortBy);
+    }
+
+    @Benchmark
+    public Sort createSort_newInstance() {
+        return new SortUtils().createSort(sortBy);
+    }
+}
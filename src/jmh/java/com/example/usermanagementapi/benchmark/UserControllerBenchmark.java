@@ -0,0 +1,96 @@
+package com.example.usermanagementapi.benchmark;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+import com.example.usermanagementapi.UserManagementApiApplication;
+import com.example.usermanagementapi.service.UserService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UserControllerBenchmark {
+    private static final int USERS = 1000;
+    @Param({"true", "false"})
+    private boolean cached;
+    private final AtomicLong nextEmail = new AtomicLong(USERS);
+    private ConfigurableApplicationContext context;
+    private MockMvc mvc;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(UserManagementApiApplication.class)
+                .web(WebApplicationType.SERVLET)
+                .properties("server.port=0",
+                        "logging.level.root=WARN",
+                        "spring.cache.type=" + (cached ? "caffeine" : "none"),
+                        "spring.jpa.properties.hibernate.cache.use_second_level_cache="
+                                + cached,
+                        "spring.jpa.properties.hibernate.cache.use_query_cache=" + cached)
+                .run();
+        context.getBean(UserService.class).createAll(LongStream.rangeClosed(1, USERS)
+                .mapToObj(BenchmarkUsers::user)
+                .peek(user -> user.setId(null))
+                .collect(Collectors.toList()));
+        mvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) context).build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public MvcResult getById() throws Exception {
+        return mvc.perform(get("/users/" + ThreadLocalRandom.current().nextInt(1, USERS + 1)))
+                .andReturn();
+    }
+
+    @Benchmark
+    public MvcResult getAllByBirthDateBetween() throws Exception {
+        return mvc.perform(get("/users")
+                        .param("from", "1990-01-01")
+                        .param("to", "2000-01-01")
+                        .param("count", "20")
+                        .param("sortBy", "birthDate:ASC;id:ASC"))
+                .andReturn();
+    }
+
+    @Benchmark
+    public MvcResult create() throws Exception {
+        return mvc.perform(post("/users")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"user" + nextEmail.incrementAndGet()
+                                + "@example.com\",\"firstName\":\"Ann\","
+                                + "\"lastName\":\"Duncan\",\"birthDate\":\"1995-05-02\"}"))
+                .andReturn();
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.usermanagementapi.benchmark;
+
+import com.example.usermanagementapi.UserManagementApiApplication;
+import com.example.usermanagementapi.index.EmailIndex;
+import com.example.usermanagementapi.model.User;
+import com.example.usermanagementapi.repository.UserRepository;
+import com.example.usermanagementapi.service.UserService;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UserServiceBenchmark {
+    private static final String TAKEN_EMAIL = "taken@example.com";
+    private final AtomicLong nextEmail = new AtomicLong();
+    private final User duplicateEmailUser = takenUser();
+    private final User underageUser = User.builder()
+            .email("young@example.com")
+            .firstName("Tim")
+            .lastName("Young")
+            .birthDate(LocalDate.now().minusYears(10))
+            .build();
+    private ConfigurableApplicationContext context;
+    private UserService userService;
+    private UserRepository userRepository;
+    private EmailIndex emailIndex;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(UserManagementApiApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("logging.level.root=WARN")
+                .run();
+        userService = context.getBean(UserService.class);
+        userRepository = context.getBean(UserRepository.class);
+        emailIndex = context.getBean(EmailIndex.class);
+    }
+
+    @Setup(Level.Iteration)
+    public void resetUsers() {
+        userRepository.deleteAllInBatch();
+        userService.create(takenUser());
+        emailIndex.warmUp();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public User create_validAge() {
+        User user = BenchmarkUsers.user(nextEmail.incrementAndGet());
+        user.setId(null);
+        return userService.create(user);
+    }
+
+    @Benchmark
+    public Object create_underage() {
+        try {
+            return userService.create(underageUser);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object create_duplicateEmail() {
+        try {
+            return userService.create(duplicateEmailUser);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    private static User takenUser() {
+        return User.builder()
+                .email(TAKEN_EMAIL)
+                .firstName("Ann")
+                .lastName("Taken")
+                .birthDate(LocalDate.of(1990, 1, 1))
+                .build();
+    }
+}
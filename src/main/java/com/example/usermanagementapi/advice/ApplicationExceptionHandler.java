@@ -1,6 +1,6 @@
 package com.example.usermanagementapi.advice;
 
-import java.util.HashMap;
+import com.example.usermanagementapi.util.UserErrorUtils;
 import java.util.Map;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -14,9 +14,6 @@ public class ApplicationExceptionHandler {
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public Map<String, String> handleInvalidArgument(MethodArgumentNotValidException ex) {
-        Map<String, String> errorMap = new HashMap<>();
-        ex.getBindingResult().getFieldErrors().forEach(error ->
-                errorMap.put("error_" + error.getField(), error.getDefaultMessage()));
-        return errorMap;
+        return UserErrorUtils.fieldErrors(ex.getBindingResult());
     }
 }
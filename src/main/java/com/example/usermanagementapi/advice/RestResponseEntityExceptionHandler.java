@@ -1,42 +1,66 @@
 package com.example.usermanagementapi.advice;
 
+import com.example.usermanagementapi.index.IndexNotReadyException;
+import com.example.usermanagementapi.metrics.UserMetrics;
+import com.example.usermanagementapi.util.UserErrorUtils;
 import jakarta.persistence.EntityNotFoundException;
-import java.util.HashMap;
-import java.util.Map;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
 @ControllerAdvice
 public class RestResponseEntityExceptionHandler
         extends ResponseEntityExceptionHandler {
+    private static final String RETRY_AFTER_SECONDS = "5";
+    private final UserMetrics userMetrics;
+
+    public RestResponseEntityExceptionHandler(UserMetrics userMetrics) {
+        this.userMetrics = userMetrics;
+    }
 
     @ExceptionHandler(value = EntityNotFoundException.class)
     protected ResponseEntity<Object> handleEntityNotFound(
             RuntimeException ex) {
-        Map<String, Object> map = new HashMap<>();
-        map.put("errorMessage", ex.getMessage());
-        map.put("httpStatus", HttpStatus.NOT_FOUND);
-        return new ResponseEntity<>(map, HttpStatus.NOT_FOUND);
+        return UserErrorUtils.errorResponse(HttpStatus.NOT_FOUND, ex.getMessage());
     }
 
     @ExceptionHandler(value = IllegalArgumentException.class)
     protected ResponseEntity<Object> handleIllegalArgument(
             RuntimeException ex) {
-        Map<String, Object> map = new HashMap<>();
-        map.put("errorMessage", ex.getMessage());
-        map.put("httpStatus", HttpStatus.BAD_REQUEST);
-        return new ResponseEntity<>(map, HttpStatus.BAD_REQUEST);
+        return UserErrorUtils.errorResponse(HttpStatus.BAD_REQUEST, ex.getMessage());
     }
 
     @ExceptionHandler(value = DataIntegrityViolationException.class)
-    protected ResponseEntity<Object> handleDataIntegrityViolation() {
-        Map<String, Object> map = new HashMap<>();
-        map.put("errorMessage", "A user with this email already exists.");
-        map.put("httpStatus", HttpStatus.BAD_REQUEST);
-        return new ResponseEntity<>(map, HttpStatus.BAD_REQUEST);
+    protected ResponseEntity<Object> handleDataIntegrityViolation(
+            DataIntegrityViolationException ex) {
+        if (!UserErrorUtils.isDuplicateEmail(ex)) {
+            return UserErrorUtils.errorResponse(HttpStatus.CONFLICT,
+                    UserErrorUtils.DATA_INTEGRITY_MESSAGE);
+        }
+        userMetrics.duplicateEmailRejected();
+        return UserErrorUtils.errorResponse(HttpStatus.BAD_REQUEST,
+                UserErrorUtils.DUPLICATE_EMAIL_MESSAGE);
+    }
+
+    @ExceptionHandler(value = IndexNotReadyException.class)
+    protected ResponseEntity<Object> handleIndexNotReady(RuntimeException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                .body(UserErrorUtils.errorBody(HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage()));
+    }
+
+    @ExceptionHandler(value = OptimisticLockingFailureException.class)
+    protected ResponseEntity<Object> handleOptimisticLockingFailure(WebRequest request) {
+        HttpStatus status = request.getHeader(HttpHeaders.IF_MATCH) == null
+                ? HttpStatus.CONFLICT
+                : HttpStatus.PRECONDITION_FAILED;
+        return UserErrorUtils.errorResponse(status,
+                "The user has been modified since it was read.");
     }
 }
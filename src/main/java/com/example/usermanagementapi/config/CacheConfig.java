@@ -0,0 +1,32 @@
+package com.example.usermanagementapi.config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration
+@EnableCaching(order = CacheConfig.CACHE_ADVISOR_ORDER)
+public class CacheConfig {
+    public static final String USERS_CACHE = "users";
+    public static final String USER_COUNTS_CACHE = "userCounts";
+    public static final String USER_JSON_CACHE = "userJson";
+    public static final int CACHE_ADVISOR_ORDER = Ordered.LOWEST_PRECEDENCE - 1;
+
+    @Bean
+    static BeanPostProcessor transactionAwareCacheManagerPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof CacheManager
+                        && !(bean instanceof TransactionAwareCacheManagerProxy)) {
+                    return new TransactionAwareCacheManagerProxy((CacheManager) bean);
+                }
+                return bean;
+            }
+        };
+    }
+}
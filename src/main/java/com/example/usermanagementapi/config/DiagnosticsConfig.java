@@ -0,0 +1,27 @@
+package com.example.usermanagementapi.config;
+
+import com.example.usermanagementapi.diagnostics.SlowQueryLoggingStatistics;
+import java.time.Duration;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.internal.StatisticsInitiator;
+import org.hibernate.stat.spi.StatisticsFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(name = "user.diagnostics.enabled", havingValue = "true")
+public class DiagnosticsConfig {
+    @Bean
+    public HibernatePropertiesCustomizer diagnosticsHibernatePropertiesCustomizer(
+            @Value("${user.diagnostics.slow-query-threshold}") Duration slowQueryThreshold) {
+        StatisticsFactory statisticsFactory = sessionFactory ->
+                new SlowQueryLoggingStatistics(sessionFactory, slowQueryThreshold.toMillis());
+        return properties -> {
+            properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+            properties.put(StatisticsInitiator.STATS_BUILDER, statisticsFactory);
+        };
+    }
+}
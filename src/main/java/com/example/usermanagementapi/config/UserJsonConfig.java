@@ -0,0 +1,25 @@
+package com.example.usermanagementapi.config;
+
+import com.example.usermanagementapi.converter.UserJsonHttpMessageConverter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@ConditionalOnProperty(name = "user.json-cache.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class UserJsonConfig implements WebMvcConfigurer {
+    private final ObjectMapper objectMapper;
+    private final CacheManager cacheManager;
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(0, new UserJsonHttpMessageConverter(objectMapper,
+                cacheManager.getCache(CacheConfig.USER_JSON_CACHE)));
+    }
+}
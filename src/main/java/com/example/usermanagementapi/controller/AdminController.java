@@ -0,0 +1,43 @@
+package com.example.usermanagementapi.controller;
+
+import com.example.usermanagementapi.dto.CacheStatsDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/admin")
+@RequiredArgsConstructor
+public class AdminController {
+    private final CacheManager cacheManager;
+
+    @GetMapping("/caches")
+    ResponseEntity<Map<String, CacheStatsDto>> getCacheStats() {
+        Map<String, CacheStatsDto> cacheStats = new TreeMap<>();
+        for (String cacheName : cacheManager.getCacheNames()) {
+            Object nativeCache = Optional.ofNullable(cacheManager.getCache(cacheName))
+                    .map(cache -> cache.getNativeCache())
+                    .orElse(null);
+            if (nativeCache instanceof Cache) {
+                Cache<?, ?> caffeineCache = (Cache<?, ?>) nativeCache;
+                CacheStats stats = caffeineCache.stats();
+                cacheStats.put(cacheName, CacheStatsDto.builder()
+                        .size(caffeineCache.estimatedSize())
+                        .hitCount(stats.hitCount())
+                        .missCount(stats.missCount())
+                        .evictionCount(stats.evictionCount())
+                        .hitRate(stats.hitRate())
+                        .build());
+            }
+        }
+        return ResponseEntity.ok(cacheStats);
+    }
+}
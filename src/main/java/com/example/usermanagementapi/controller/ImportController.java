@@ -0,0 +1,49 @@
+package com.example.usermanagementapi.controller;
+
+import com.example.usermanagementapi.dto.ImportJobDto;
+import com.example.usermanagementapi.importer.ImportJob;
+import com.example.usermanagementapi.mapper.ImportJobDtoMapper;
+import com.example.usermanagementapi.service.ImportService;
+import java.net.URI;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RequestPart;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+@RestController
+@RequestMapping("/imports")
+@RequiredArgsConstructor
+public class ImportController {
+    private final ImportService importService;
+    private final ImportJobDtoMapper importJobDtoMapper;
+
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    ResponseEntity<ImportJobDto> submit(@RequestPart MultipartFile file,
+                                        @RequestParam(required = false) String format) {
+        ImportJob job = importService.submit(file, format);
+        return ResponseEntity.accepted()
+                .location(URI.create("/imports/" + job.getId()))
+                .body(importJobDtoMapper.mapToDto(job));
+    }
+
+    @GetMapping("/{id}")
+    ResponseEntity<ImportJobDto> get(@PathVariable String id) {
+        return ResponseEntity.ok(importJobDtoMapper.mapToDto(importService.get(id)));
+    }
+
+    @GetMapping(value = "/{id}/rejected", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    ResponseEntity<Resource> getRejectedRows(@PathVariable String id) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(new FileSystemResource(importService.get(id).getRejectedRowsFile()));
+    }
+}
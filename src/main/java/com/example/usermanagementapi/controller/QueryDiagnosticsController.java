@@ -0,0 +1,51 @@
+package com.example.usermanagementapi.controller;
+
+import com.example.usermanagementapi.diagnostics.SlowQueryLoggingStatistics;
+import com.example.usermanagementapi.dto.QueryStatsDto;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.QueryStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/admin")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "user.diagnostics.enabled", havingValue = "true")
+public class QueryDiagnosticsController {
+    private final EntityManagerFactory entityManagerFactory;
+
+    @GetMapping("/queries")
+    ResponseEntity<List<QueryStatsDto>> getSlowestQueries(
+            @RequestParam(defaultValue = "10") Integer limit) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class)
+                .getStatistics();
+        return ResponseEntity.ok(Arrays.stream(statistics.getQueries())
+                .map(query -> toDto(query, statistics.getQueryStatistics(query)))
+                .sorted(Comparator.comparingLong(QueryStatsDto::getExecutionMaxTime)
+                        .thenComparingLong(QueryStatsDto::getExecutionAvgTime)
+                        .reversed())
+                .limit(limit)
+                .toList());
+    }
+
+    private QueryStatsDto toDto(String query, QueryStatistics queryStatistics) {
+        return QueryStatsDto.builder()
+                .query(SlowQueryLoggingStatistics.redact(query))
+                .executionCount(queryStatistics.getExecutionCount())
+                .executionRowCount(queryStatistics.getExecutionRowCount())
+                .executionAvgTime(queryStatistics.getExecutionAvgTime())
+                .executionMaxTime(queryStatistics.getExecutionMaxTime())
+                .executionTotalTime(queryStatistics.getExecutionTotalTime())
+                .build();
+    }
+}
@@ -1,20 +1,42 @@
 package com.example.usermanagementapi.controller;
 
+import com.example.usermanagementapi.dto.BatchItemResponseDto;
+import com.example.usermanagementapi.dto.UserFilterDto;
+import com.example.usermanagementapi.dto.UserPatchRequestDto;
 import com.example.usermanagementapi.dto.UserRequestDto;
 import com.example.usermanagementapi.dto.UserResponseDto;
+import com.example.usermanagementapi.dto.UserStatsDto;
+import com.example.usermanagementapi.mapper.BatchItemResponseDtoMapper;
 import com.example.usermanagementapi.mapper.UserRequestDtoMapper;
 import com.example.usermanagementapi.mapper.UserResponseDtoMapper;
+import com.example.usermanagementapi.model.BatchResult;
 import com.example.usermanagementapi.model.User;
+import com.example.usermanagementapi.service.UserResponseService;
 import com.example.usermanagementapi.service.UserService;
+import com.example.usermanagementapi.service.UserStatsService;
+import com.example.usermanagementapi.util.BatchUtils;
+import com.example.usermanagementapi.util.CursorUtils;
+import com.example.usermanagementapi.util.ETagUtils;
 import com.example.usermanagementapi.util.SortUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -23,48 +45,97 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/users")
 @RequiredArgsConstructor
 public class UserController {
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    static final String HAS_NEXT_HEADER = "X-Has-Next";
+    static final String TOTAL_COUNT_HEADER = "X-Total-Count";
     private final UserService userService;
+    private final UserResponseService userResponseService;
+    private final UserStatsService userStatsService;
     private final UserRequestDtoMapper requestDtoMapper;
     private final UserResponseDtoMapper responseDtoMapper;
+    private final BatchItemResponseDtoMapper batchItemResponseDtoMapper;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final SortUtils sortUtils;
 
     @PostMapping
     ResponseEntity<UserResponseDto> create(@RequestBody @Valid UserRequestDto userRequestDto) {
         User user = userService.create(requestDtoMapper.mapToModel(userRequestDto));
-        return new ResponseEntity<>((responseDtoMapper.mapToDto(user)), HttpStatus.CREATED);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .eTag(ETagUtils.toETag(user.getVersion()))
+                .body(responseDtoMapper.mapToDto(user));
+    }
+
+    @PostMapping("/batch")
+    ResponseEntity<List<BatchItemResponseDto>> createAll(
+            @RequestBody List<UserRequestDto> userRequestDtos) {
+        List<Integer> validIndexes = new ArrayList<>();
+        BatchItemResponseDto[] responses =
+                BatchUtils.rejectInvalid(validator, userRequestDtos, validIndexes);
+        List<User> users = validIndexes.stream()
+                .map(index -> requestDtoMapper.mapToModel(userRequestDtos.get(index)))
+                .toList();
+        return ResponseEntity.ok(BatchUtils.merge(responses, validIndexes,
+                toBatchItemResponseDtos(userService.createAll(users))));
+    }
+
+    @PatchMapping("/batch")
+    ResponseEntity<List<BatchItemResponseDto>> partiallyUpdateAll(
+            @RequestBody List<UserPatchRequestDto> userPatchRequestDtos) {
+        List<User> users = userPatchRequestDtos.stream()
+                .map(this::mapToModel)
+                .toList();
+        return ResponseEntity.ok(toBatchItemResponseDtos(userService.particularUpdateAll(users)));
+    }
+
+    @DeleteMapping
+    ResponseEntity<List<BatchItemResponseDto>> deleteAll(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(toBatchItemResponseDtos(userService.deleteAll(ids)));
     }
 
     @GetMapping("/{id}")
     ResponseEntity<UserResponseDto> get(@PathVariable Long id) {
-        User user = userService.get(id);
-        return ResponseEntity.ok(responseDtoMapper.mapToDto(user));
+        return withETag(userResponseService.get(id));
+    }
+
+    @GetMapping("/by-email")
+    ResponseEntity<UserResponseDto> getByEmail(@RequestParam String email) {
+        return withETag(userResponseService.getByEmail(email));
     }
 
     @PutMapping("/{id}")
-    ResponseEntity<UserResponseDto> update(@PathVariable Long id,
-                                           @RequestBody @Valid UserRequestDto userRequestDto) {
+    ResponseEntity<UserResponseDto> update(
+            @PathVariable Long id, @RequestBody @Valid UserRequestDto userRequestDto,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         User user = requestDtoMapper.mapToModel(userRequestDto);
-        return ResponseEntity.ok(responseDtoMapper.mapToDto(userService.update(user, id)));
+        user.setVersion(ETagUtils.parseIfMatch(ifMatch));
+        return withETag(userService.update(user, id));
     }
 
     @PatchMapping("/{id}")
     ResponseEntity<UserResponseDto> partiallyUpdateUser(
-            @PathVariable Long id, @RequestBody UserRequestDto userRequestDto) {
+            @PathVariable Long id, @RequestBody UserRequestDto userRequestDto,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         User user = requestDtoMapper.mapToModel(userRequestDto);
-        return ResponseEntity.ok(responseDtoMapper.mapToDto(userService
-                .particularUpdateUser(user, id)));
+        user.setVersion(ETagUtils.parseIfMatch(ifMatch));
+        return withETag(userService.particularUpdateUser(user, id));
     }
 
     @DeleteMapping("/{id}")
-    ResponseEntity<User> delete(@PathVariable Long id) {
-        userService.delete(id);
+    ResponseEntity<User> delete(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        userService.delete(id, ETagUtils.parseIfMatch(ifMatch));
         return ResponseEntity.noContent().build();
     }
 
@@ -73,14 +144,129 @@ public class UserController {
             @RequestParam(defaultValue = "10") Integer count,
             @RequestParam(defaultValue = "0") Integer page,
             @RequestParam(defaultValue = "id") String sortBy, @RequestParam LocalDate from,
-            @RequestParam LocalDate to) {
+            @RequestParam LocalDate to, @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean withTotalCount) {
         checkInputDate(from, to);
-        Sort sort = SortUtils.createSort(sortBy);
+        checkCount(count);
+        Sort sort = sortUtils.createSort(sortBy);
+        if (cursor != null) {
+            return scrollByBirthDateBetween(from, to, sort, cursor, count);
+        }
         PageRequest pageRequest = PageRequest.of(page, count, sort);
-        List<User> users = userService.getAllUsersByBirthDateBetween(from, to, pageRequest);
-        return ResponseEntity.ok(users.stream()
-                .map(responseDtoMapper::mapToDto)
-                .collect(Collectors.toList()));
+        Slice<UserResponseDto> users = userResponseService.getAllByBirthDateBetween(from, to,
+                pageRequest);
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HAS_NEXT_HEADER, String.valueOf(users.hasNext()));
+        if (withTotalCount) {
+            headers.set(TOTAL_COUNT_HEADER,
+                    String.valueOf(userResponseService.countByBirthDateBetween(from, to)));
+        }
+        return ResponseEntity.ok()
+                .headers(headers)
+                .body(users.getContent());
+    }
+
+    @GetMapping("/filter")
+    ResponseEntity<List<UserResponseDto>> getAllByFilter(
+            UserFilterDto filter,
+            @RequestParam(defaultValue = "10") Integer count,
+            @RequestParam(defaultValue = "0") Integer page,
+            @RequestParam(defaultValue = "id") String sortBy) {
+        checkCount(count);
+        Window<User> users = userService.getAllUsersByFilter(filter,
+                PageRequest.of(page, count, sortUtils.createSort(sortBy)));
+        return ResponseEntity.ok()
+                .header(HAS_NEXT_HEADER, String.valueOf(users.hasNext()))
+                .body(users.stream()
+                        .map(responseDtoMapper::mapToDto)
+                        .collect(Collectors.toList()));
+    }
+
+    @GetMapping("/stats")
+    ResponseEntity<UserStatsDto> getStats() {
+        return ResponseEntity.ok(userStatsService.getStats());
+    }
+
+    @GetMapping("/search")
+    ResponseEntity<List<UserResponseDto>> search(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") Integer count,
+            @RequestParam(defaultValue = "0") Integer page) {
+        checkCount(count);
+        Slice<UserResponseDto> users = userResponseService.search(q, PageRequest.of(page, count));
+        return ResponseEntity.ok()
+                .header(HAS_NEXT_HEADER, String.valueOf(users.hasNext()))
+                .body(users.getContent());
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    ResponseEntity<StreamingResponseBody> exportByBirthDateBetween(
+            @RequestParam LocalDate from, @RequestParam LocalDate to) {
+        checkInputDate(from, to);
+        ObjectWriter userWriter = objectMapper.writerFor(UserResponseDto.class);
+        StreamingResponseBody body = outputStream -> userService
+                .exportUsersByBirthDateBetween(from, to, user -> writeLine(outputStream,
+                        userWriter, responseDtoMapper.mapToDto(user)));
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    private User mapToModel(UserPatchRequestDto userPatchRequestDto) {
+        User user = userPatchRequestDto.getUser() == null
+                ? new User()
+                : requestDtoMapper.mapToModel(userPatchRequestDto.getUser());
+        user.setId(userPatchRequestDto.getId());
+        return user;
+    }
+
+    private List<BatchItemResponseDto> toBatchItemResponseDtos(List<BatchResult> results) {
+        List<BatchItemResponseDto> responses = new ArrayList<>(results.size());
+        for (int i = 0; i < results.size(); i++) {
+            BatchItemResponseDto response = batchItemResponseDtoMapper.mapToDto(results.get(i));
+            response.setIndex(i);
+            responses.add(response);
+        }
+        return responses;
+    }
+
+    private ResponseEntity<UserResponseDto> withETag(User user) {
+        return ResponseEntity.ok()
+                .eTag(ETagUtils.toETag(user.getVersion()))
+                .body(responseDtoMapper.mapToDto(user));
+    }
+
+    private ResponseEntity<UserResponseDto> withETag(UserResponseDto user) {
+        return ResponseEntity.ok()
+                .eTag(ETagUtils.toETag(user.getVersion()))
+                .body(user);
+    }
+
+    private ResponseEntity<List<UserResponseDto>> scrollByBirthDateBetween(
+            LocalDate from, LocalDate to, Sort sort, String cursor, int count) {
+        Window<User> users = userService.scrollUsersByBirthDateBetween(from, to, sort,
+                CursorUtils.decode(cursor, sort), count);
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HAS_NEXT_HEADER, String.valueOf(users.hasNext()));
+        if (users.hasNext()) {
+            headers.set(NEXT_CURSOR_HEADER, CursorUtils.encode(users.positionAt(users.size() - 1)));
+        }
+        return ResponseEntity.ok()
+                .headers(headers)
+                .body(users.stream()
+                        .map(responseDtoMapper::mapToDto)
+                        .collect(Collectors.toList()));
+    }
+
+    private void writeLine(OutputStream outputStream, ObjectWriter writer,
+                           UserResponseDto userResponseDto) {
+        try {
+            outputStream.write(writer.writeValueAsBytes(userResponseDto));
+            outputStream.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException("Can't write the user with id "
+                    + userResponseDto.getId() + " to the export stream", e);
+        }
     }
 
     private void checkInputDate(LocalDate from, LocalDate to) {
@@ -88,4 +274,10 @@ public class UserController {
             throw new IllegalArgumentException("\"from\" date should be before \"to\" date.");
         }
     }
+
+    private void checkCount(int count) {
+        if (count < 1) {
+            throw new IllegalArgumentException("\"count\" should be at least 1.");
+        }
+    }
 }
@@ -0,0 +1,115 @@
+package com.example.usermanagementapi.converter;
+
+import com.example.usermanagementapi.dto.UserResponseDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Collection;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+public class UserJsonHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+    private final ObjectWriter userWriter;
+    private final Cache userJsonCache;
+
+    public UserJsonHttpMessageConverter(ObjectMapper objectMapper, Cache userJsonCache) {
+        super(MediaType.APPLICATION_JSON);
+        this.userWriter = objectMapper.writerFor(UserResponseDto.class);
+        this.userJsonCache = userJsonCache;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return UserResponseDto.class == clazz;
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        return (isUserResponseDto(type) || isUserResponseDtoCollection(type))
+                && canWrite(mediaType);
+    }
+
+    @Override
+    protected void writeInternal(Object value, Type type, HttpOutputMessage outputMessage)
+            throws IOException {
+        OutputStream body = outputMessage.getBody();
+        if (value instanceof UserResponseDto) {
+            body.write(toJson((UserResponseDto) value));
+            return;
+        }
+        body.write('[');
+        boolean first = true;
+        for (Object user : (Collection<?>) value) {
+            if (!first) {
+                body.write(',');
+            }
+            body.write(toJson((UserResponseDto) user));
+            first = false;
+        }
+        body.write(']');
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Users can't be read with this converter",
+                inputMessage);
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) {
+        return readInternal(null, inputMessage);
+    }
+
+    private byte[] toJson(UserResponseDto user) throws IOException {
+        if (user.getId() == null || user.getVersion() == null) {
+            return userWriter.writeValueAsBytes(user);
+        }
+        UserJson cached = userJsonCache.get(user.getId(), UserJson.class);
+        if (cached != null && cached.getVersion().equals(user.getVersion())) {
+            return cached.getJson();
+        }
+        byte[] json = userWriter.writeValueAsBytes(user);
+        userJsonCache.put(user.getId(), new UserJson(user.getVersion(), json));
+        return json;
+    }
+
+    private boolean isUserResponseDto(Type type) {
+        return type == UserResponseDto.class;
+    }
+
+    private boolean isUserResponseDtoCollection(Type type) {
+        if (!(type instanceof ParameterizedType)) {
+            return false;
+        }
+        ParameterizedType parameterizedType = (ParameterizedType) type;
+        return parameterizedType.getRawType() instanceof Class
+                && Collection.class.isAssignableFrom((Class<?>) parameterizedType.getRawType())
+                && isUserResponseDto(parameterizedType.getActualTypeArguments()[0]);
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class UserJson {
+        private final Long version;
+        private final byte[] json;
+    }
+}
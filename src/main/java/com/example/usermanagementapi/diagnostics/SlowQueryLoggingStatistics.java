@@ -0,0 +1,30 @@
+package com.example.usermanagementapi.diagnostics;
+
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.internal.StatisticsImpl;
+
+@Slf4j
+public class SlowQueryLoggingStatistics extends StatisticsImpl {
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private final long slowQueryThresholdMillis;
+
+    public SlowQueryLoggingStatistics(SessionFactoryImplementor sessionFactory,
+                                      long slowQueryThresholdMillis) {
+        super(sessionFactory);
+        this.slowQueryThresholdMillis = slowQueryThresholdMillis;
+    }
+
+    @Override
+    public void queryExecuted(String query, int rows, long time) {
+        super.queryExecuted(query, rows, time);
+        if (time >= slowQueryThresholdMillis) {
+            log.warn("Slow query: {} ms, {} rows: {}", time, rows, redact(query));
+        }
+    }
+
+    public static String redact(String query) {
+        return STRING_LITERAL.matcher(query).replaceAll("'?'");
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.usermanagementapi.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@EqualsAndHashCode
+@Builder
+public class AgeBucketDto {
+    private int fromAge;
+    private int toAge;
+    private long count;
+}
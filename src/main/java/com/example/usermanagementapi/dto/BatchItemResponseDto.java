@@ -0,0 +1,25 @@
+package com.example.usermanagementapi.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.http.HttpStatus;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@EqualsAndHashCode
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BatchItemResponseDto {
+    private Integer index;
+    private Long id;
+    private HttpStatus httpStatus;
+    private String errorMessage;
+    private UserResponseDto user;
+}
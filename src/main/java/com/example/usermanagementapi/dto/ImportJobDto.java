@@ -0,0 +1,31 @@
+package com.example.usermanagementapi.dto;
+
+import com.example.usermanagementapi.importer.ImportFormat;
+import com.example.usermanagementapi.importer.ImportJobStatus;
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@EqualsAndHashCode
+@Builder
+public class ImportJobDto {
+    private String id;
+    private ImportJobStatus status;
+    private ImportFormat format;
+    private long readRows;
+    private long processedRows;
+    private long importedRows;
+    private long rejectedRows;
+    private String errorMessage;
+    private Instant createdAt;
+    private Instant startedAt;
+    private Instant finishedAt;
+}
@@ -0,0 +1,23 @@
+package com.example.usermanagementapi.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@EqualsAndHashCode
+@Builder
+public class QueryStatsDto {
+    private String query;
+    private long executionCount;
+    private long executionRowCount;
+    private long executionAvgTime;
+    private long executionMaxTime;
+    private long executionTotalTime;
+}
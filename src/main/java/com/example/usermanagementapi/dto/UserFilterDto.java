@@ -0,0 +1,25 @@
+package com.example.usermanagementapi.dto;
+
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@EqualsAndHashCode
+@Builder
+public class UserFilterDto {
+    private LocalDate birthDateFrom;
+    private LocalDate birthDateTo;
+    private String firstName;
+    private String lastName;
+    private String lastNamePrefix;
+    private String email;
+    private String addressPrefix;
+}
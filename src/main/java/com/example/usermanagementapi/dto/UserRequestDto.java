@@ -2,6 +2,7 @@ package com.example.usermanagementapi.dto;
 
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Past;
 import jakarta.validation.constraints.Pattern;
 import java.time.LocalDate;
@@ -26,6 +27,7 @@ public class UserRequestDto {
     private String firstName;
     @NotBlank(message = "Last name is required")
     private String lastName;
+    @NotNull(message = "Birth date is required")
     @Past(message = "Birth date must be in the past")
     private LocalDate birthDate;
     private String address;
@@ -1,5 +1,6 @@
 package com.example.usermanagementapi.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import java.time.LocalDate;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -22,4 +23,6 @@ public class UserResponseDto {
     private LocalDate birthDate;
     private String address;
     private String phoneNumber;
+    @JsonIgnore
+    private Long version;
 }
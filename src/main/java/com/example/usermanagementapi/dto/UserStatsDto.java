@@ -0,0 +1,26 @@
+package com.example.usermanagementapi.dto;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@EqualsAndHashCode
+@Builder
+public class UserStatsDto {
+    private long totalUsers;
+    private long underAgeLimitUsers;
+    private int ageLimit;
+    private List<AgeBucketDto> ageBuckets;
+    private Map<Integer, Long> birthYears;
+    private Instant refreshedAt;
+}
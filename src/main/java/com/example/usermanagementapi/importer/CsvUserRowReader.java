@@ -0,0 +1,124 @@
+package com.example.usermanagementapi.importer;
+
+import com.example.usermanagementapi.dto.UserRequestDto;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+public class CsvUserRowReader implements UserRowReader {
+    private static final List<String> COLUMNS = List.of("email", "firstname", "lastname",
+            "birthdate", "address", "phonenumber");
+    private static final int REQUIRED_COLUMNS = 4;
+    private final BufferedReader reader;
+    private final int[] columnIndexes = new int[COLUMNS.size()];
+    private final int columnCount;
+    private long line;
+
+    public CsvUserRowReader(BufferedReader reader) throws IOException {
+        this.reader = reader;
+        String header = reader.readLine();
+        line++;
+        List<String> headerColumns = header == null ? List.of() : split(header);
+        if (headerColumns == null) {
+            throw new IllegalArgumentException("Malformed CSV header.");
+        }
+        columnCount = headerColumns.size();
+        for (int i = 0; i < COLUMNS.size(); i++) {
+            columnIndexes[i] = indexOf(headerColumns, COLUMNS.get(i));
+            if (i < REQUIRED_COLUMNS && columnIndexes[i] < 0) {
+                throw new IllegalArgumentException("CSV header must contain the email, "
+                        + "firstName, lastName and birthDate columns.");
+            }
+        }
+    }
+
+    @Override
+    public ImportRow next() throws IOException {
+        String row;
+        do {
+            row = reader.readLine();
+            line++;
+        } while (row != null && row.isBlank());
+        if (row == null) {
+            return null;
+        }
+        List<String> values = split(row);
+        if (values == null || values.size() != columnCount) {
+            return ImportRow.invalid(line, row, "Malformed row: expected " + columnCount
+                    + " columns.");
+        }
+        LocalDate birthDate;
+        try {
+            String value = value(values, 3);
+            birthDate = value == null ? null : LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            return ImportRow.invalid(line, row, "Invalid birth date");
+        }
+        return ImportRow.valid(line, row, UserRequestDto.builder()
+                .email(value(values, 0))
+                .firstName(value(values, 1))
+                .lastName(value(values, 2))
+                .birthDate(birthDate)
+                .address(value(values, 4))
+                .phoneNumber(value(values, 5))
+                .build());
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private String value(List<String> values, int column) {
+        int index = columnIndexes[column];
+        if (index < 0 || values.get(index).isEmpty()) {
+            return null;
+        }
+        return values.get(index);
+    }
+
+    private static int indexOf(List<String> headerColumns, String column) {
+        for (int i = 0; i < headerColumns.size(); i++) {
+            if (headerColumns.get(i).replace("_", "").trim().toLowerCase(Locale.ROOT)
+                    .equals(column)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static List<String> split(String row) {
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < row.length(); i++) {
+            char c = row.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    value.append(c);
+                } else if (i + 1 < row.length() && row.charAt(i + 1) == '"') {
+                    value.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+        if (quoted) {
+            return null;
+        }
+        values.add(value.toString());
+        return values;
+    }
+}
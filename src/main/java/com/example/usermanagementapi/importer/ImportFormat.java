@@ -0,0 +1,35 @@
+package com.example.usermanagementapi.importer;
+
+import java.util.List;
+import java.util.Locale;
+
+public enum ImportFormat {
+    CSV(".csv"),
+    NDJSON(".ndjson", ".jsonl");
+
+    private final List<String> extensions;
+
+    ImportFormat(String... extensions) {
+        this.extensions = List.of(extensions);
+    }
+
+    public String getExtension() {
+        return extensions.get(0);
+    }
+
+    public static ImportFormat of(String format, String fileName) {
+        for (ImportFormat importFormat : values()) {
+            if (format == null
+                    ? importFormat.matches(fileName)
+                    : importFormat.name().equalsIgnoreCase(format)) {
+                return importFormat;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported import format, use one of: csv, ndjson.");
+    }
+
+    private boolean matches(String fileName) {
+        return fileName != null && extensions.stream()
+                .anyMatch(fileName.toLowerCase(Locale.ROOT)::endsWith);
+    }
+}
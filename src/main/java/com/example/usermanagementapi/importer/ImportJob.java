@@ -0,0 +1,78 @@
+package com.example.usermanagementapi.importer;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+@Getter
+public class ImportJob {
+    private final String id;
+    private final ImportFormat format;
+    private final Path file;
+    private final Path rejectedRowsFile;
+    private final Instant createdAt = Instant.now();
+    @Getter(AccessLevel.NONE)
+    private final AtomicLong readRows = new AtomicLong();
+    @Getter(AccessLevel.NONE)
+    private final AtomicLong importedRows = new AtomicLong();
+    @Getter(AccessLevel.NONE)
+    private final AtomicLong rejectedRows = new AtomicLong();
+    private volatile ImportJobStatus status = ImportJobStatus.QUEUED;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+    private volatile String errorMessage;
+
+    public ImportJob(String id, ImportFormat format, Path file, Path rejectedRowsFile) {
+        this.id = id;
+        this.format = format;
+        this.file = file;
+        this.rejectedRowsFile = rejectedRowsFile;
+    }
+
+    public long getReadRows() {
+        return readRows.get();
+    }
+
+    public long getImportedRows() {
+        return importedRows.get();
+    }
+
+    public long getRejectedRows() {
+        return rejectedRows.get();
+    }
+
+    public long getProcessedRows() {
+        return importedRows.get() + rejectedRows.get();
+    }
+
+    public boolean isFinished() {
+        return status == ImportJobStatus.COMPLETED || status == ImportJobStatus.FAILED;
+    }
+
+    public void rowRead() {
+        readRows.incrementAndGet();
+    }
+
+    public void rowsProcessed(long imported, long rejected) {
+        importedRows.addAndGet(imported);
+        rejectedRows.addAndGet(rejected);
+    }
+
+    public void start() {
+        startedAt = Instant.now();
+        status = ImportJobStatus.RUNNING;
+    }
+
+    public void complete() {
+        finishedAt = Instant.now();
+        status = ImportJobStatus.COMPLETED;
+    }
+
+    public void fail(String errorMessage) {
+        this.errorMessage = errorMessage;
+        finishedAt = Instant.now();
+        status = ImportJobStatus.FAILED;
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.usermanagementapi.importer;
+
+public enum ImportJobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,23 @@
+package com.example.usermanagementapi.importer;
+
+import com.example.usermanagementapi.dto.UserRequestDto;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ImportRow {
+    private final long line;
+    private final String row;
+    private final UserRequestDto user;
+    private final String errorMessage;
+
+    public static ImportRow valid(long line, String row, UserRequestDto user) {
+        return new ImportRow(line, row, user, null);
+    }
+
+    public static ImportRow invalid(long line, String row, String errorMessage) {
+        return new ImportRow(line, row, null, errorMessage);
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.usermanagementapi.importer;
+
+import com.example.usermanagementapi.dto.UserRequestDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import java.io.BufferedReader;
+import java.io.IOException;
+
+public class NdjsonUserRowReader implements UserRowReader {
+    private final BufferedReader reader;
+    private final ObjectReader userReader;
+    private long line;
+
+    public NdjsonUserRowReader(BufferedReader reader, ObjectMapper objectMapper) {
+        this.reader = reader;
+        this.userReader = objectMapper.readerFor(UserRequestDto.class);
+    }
+
+    @Override
+    public ImportRow next() throws IOException {
+        String row;
+        do {
+            row = reader.readLine();
+            line++;
+        } while (row != null && row.isBlank());
+        if (row == null) {
+            return null;
+        }
+        try {
+            UserRequestDto user = userReader.readValue(row);
+            return user == null
+                    ? ImportRow.invalid(line, row, "Row must be a JSON object")
+                    : ImportRow.valid(line, row, user);
+        } catch (JsonProcessingException e) {
+            return ImportRow.invalid(line, row, "Malformed row: " + e.getOriginalMessage());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.usermanagementapi.importer;
+
+import com.example.usermanagementapi.dto.RejectedRowDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class RejectedRowsReport implements Closeable {
+    private final BufferedWriter writer;
+    private final ObjectWriter rowWriter;
+
+    public RejectedRowsReport(Path file, ObjectMapper objectMapper) throws IOException {
+        this.writer = Files.newBufferedWriter(file);
+        this.rowWriter = objectMapper.writerFor(RejectedRowDto.class);
+    }
+
+    public synchronized void add(ImportRow row, String errorMessage) {
+        try {
+            writer.write(rowWriter.writeValueAsString(new RejectedRowDto(row.getLine(),
+                    row.getRow(), errorMessage)));
+            writer.newLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Can't write the rejected row " + row.getLine()
+                    + " to the report", e);
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        writer.close();
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.usermanagementapi.importer;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+public interface UserRowReader extends Closeable {
+    ImportRow next() throws IOException;
+}
@@ -0,0 +1,83 @@
+package com.example.usermanagementapi.index;
+
+import com.example.usermanagementapi.model.BirthDateCount;
+import com.example.usermanagementapi.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class BirthDateHistogram {
+    private final UserRepository userRepository;
+    private volatile Snapshot snapshot = new Snapshot(Collections.emptyNavigableMap(), 0, null);
+
+    public BirthDateHistogram(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    @PostConstruct
+    @Scheduled(fixedDelayString = "${user.stats.refresh-interval}",
+            initialDelayString = "${user.stats.refresh-interval}")
+    public void refresh() {
+        NavigableMap<LocalDate, Long> counts = new TreeMap<>();
+        long total = 0;
+        for (BirthDateCount birthDateCount : userRepository.countAllByBirthDate()) {
+            counts.put(birthDateCount.getBirthDate(), birthDateCount.getCount());
+            total += birthDateCount.getCount();
+        }
+        snapshot = new Snapshot(Collections.unmodifiableNavigableMap(counts), total,
+                Instant.now());
+        log.debug("Birth date histogram refreshed with {} users and {} dates", total,
+                counts.size());
+    }
+
+    public long count() {
+        return snapshot.getTotal();
+    }
+
+    public long countBetween(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            return 0;
+        }
+        long count = 0;
+        for (long dateCount : snapshot.getCounts().subMap(from, true, to, true).values()) {
+            count += dateCount;
+        }
+        return count;
+    }
+
+    public LocalDate oldestBirthDate() {
+        Map.Entry<LocalDate, Long> oldest = snapshot.getCounts().firstEntry();
+        return oldest == null ? null : oldest.getKey();
+    }
+
+    public SortedMap<Integer, Long> countByBirthYear() {
+        SortedMap<Integer, Long> countByYear = new TreeMap<>();
+        snapshot.getCounts().forEach((birthDate, count) ->
+                countByYear.merge(birthDate.getYear(), count, Long::sum));
+        return countByYear;
+    }
+
+    public Instant refreshedAt() {
+        return snapshot.getRefreshedAt();
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class Snapshot {
+        private final NavigableMap<LocalDate, Long> counts;
+        private final long total;
+        private final Instant refreshedAt;
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.usermanagementapi.index;
+
+import com.example.usermanagementapi.repository.UserRepository;
+import com.example.usermanagementapi.util.EmailUtils;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Component
+public class EmailIndex {
+    private final UserRepository userRepository;
+    private final long expectedInsertions;
+    private final double falsePositiveProbability;
+    private volatile BloomFilter bloomFilter;
+    private volatile BloomFilter warmingFilter;
+
+    @Autowired
+    public EmailIndex(UserRepository userRepository,
+                      @Value("${user.email-index.expected-insertions}") long expectedInsertions,
+                      @Value("${user.email-index.false-positive-probability}")
+                      double falsePositiveProbability) {
+        this.userRepository = userRepository;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveProbability = falsePositiveProbability;
+        this.bloomFilter = new BloomFilter(expectedInsertions, falsePositiveProbability);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void warmUp() {
+        long users = userRepository.count();
+        BloomFilter warmedFilter = new BloomFilter(Math.max(expectedInsertions, users * 2),
+                falsePositiveProbability);
+        warmingFilter = warmedFilter;
+        try (Stream<String> emails = userRepository.streamAllNormalizedEmails()) {
+            emails.forEach(warmedFilter::put);
+        }
+        bloomFilter = warmedFilter;
+        warmingFilter = null;
+        log.info("Email index warmed up with {} users", users);
+    }
+
+    public boolean mightContain(String email) {
+        return email != null && bloomFilter.mightContain(EmailUtils.normalize(email));
+    }
+
+    public void add(String email) {
+        if (email == null) {
+            return;
+        }
+        String normalizedEmail = EmailUtils.normalize(email);
+        BloomFilter warming = warmingFilter;
+        bloomFilter.put(normalizedEmail);
+        if (warming != null) {
+            warming.put(normalizedEmail);
+        }
+    }
+}
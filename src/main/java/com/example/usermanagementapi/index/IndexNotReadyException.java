@@ -0,0 +1,7 @@
+package com.example.usermanagementapi.index;
+
+public class IndexNotReadyException extends RuntimeException {
+    public IndexNotReadyException(String message) {
+        super(message);
+    }
+}
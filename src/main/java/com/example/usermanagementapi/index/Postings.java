@@ -0,0 +1,80 @@
+package com.example.usermanagementapi.index;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongConsumer;
+
+class Postings {
+    private static final int MAX_ARRAY_SIZE = 64;
+    private volatile long[] ids = new long[0];
+    private volatile Set<Long> idSet;
+
+    int size() {
+        Set<Long> set = idSet;
+        return set == null ? ids.length : set.size();
+    }
+
+    boolean contains(long id) {
+        Set<Long> set = idSet;
+        return set == null ? Arrays.binarySearch(ids, id) >= 0 : set.contains(id);
+    }
+
+    void forEach(LongConsumer action) {
+        Set<Long> set = idSet;
+        if (set == null) {
+            for (long id : ids) {
+                action.accept(id);
+            }
+        } else {
+            set.forEach(action::accept);
+        }
+    }
+
+    void add(long id) {
+        if (idSet != null) {
+            idSet.add(id);
+            return;
+        }
+        long[] current = ids;
+        int index = Arrays.binarySearch(current, id);
+        if (index >= 0) {
+            return;
+        }
+        if (current.length == MAX_ARRAY_SIZE) {
+            Set<Long> set = ConcurrentHashMap.newKeySet(MAX_ARRAY_SIZE * 2);
+            for (long currentId : current) {
+                set.add(currentId);
+            }
+            set.add(id);
+            idSet = set;
+            return;
+        }
+        int insertAt = -index - 1;
+        long[] updated = new long[current.length + 1];
+        System.arraycopy(current, 0, updated, 0, insertAt);
+        updated[insertAt] = id;
+        System.arraycopy(current, insertAt, updated, insertAt + 1, current.length - insertAt);
+        ids = updated;
+    }
+
+    void remove(long id) {
+        if (idSet != null) {
+            idSet.remove(id);
+            return;
+        }
+        long[] current = ids;
+        int index = Arrays.binarySearch(current, id);
+        if (index < 0) {
+            return;
+        }
+        long[] updated = new long[current.length - 1];
+        System.arraycopy(current, 0, updated, 0, index);
+        System.arraycopy(current, index + 1, updated, index, current.length - index - 1);
+        ids = updated;
+    }
+
+    boolean isEmpty() {
+        return size() == 0;
+    }
+}
@@ -0,0 +1,305 @@
+package com.example.usermanagementapi.index;
+
+import com.example.usermanagementapi.dto.UserResponseDto;
+import com.example.usermanagementapi.model.User;
+import com.example.usermanagementapi.repository.UserRepository;
+import com.example.usermanagementapi.util.TransactionUtils;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Component
+public class UserSearchIndex {
+    private static final int MIN_PREFIX_LENGTH = 2;
+    private static final int MIN_FUZZY_LENGTH = 3;
+    private static final double MIN_SIMILARITY = 0.3;
+    private static final double PREFIX_SCORE = 0.5;
+    private static final double FUZZY_SCORE = 0.5;
+    private static final int MAX_TOKENS_PER_TERM = 64;
+    private static final String[] NO_TOKENS = new String[0];
+    private static final Comparator<Map.Entry<Long, Double>> BY_SCORE =
+            Map.Entry.<Long, Double>comparingByValue().reversed()
+                    .thenComparing(Map.Entry.comparingByKey());
+    private final UserRepository userRepository;
+    private final Map<Long, String[]> documents = new ConcurrentHashMap<>();
+    private final Map<String, Postings> postings = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListSet<String> dictionary = new ConcurrentSkipListSet<>();
+    private final Map<String, Set<String>> trigrams = new ConcurrentHashMap<>();
+    private volatile Set<Long> changedDuringWarmUp;
+    private volatile boolean ready;
+
+    public UserSearchIndex(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void warmUp() {
+        Set<Long> changed = ConcurrentHashMap.newKeySet();
+        changedDuringWarmUp = changed;
+        try (Stream<UserResponseDto> users = userRepository.streamAllResponseDtos()) {
+            users.filter(user -> !changed.contains(user.getId()))
+                    .forEach(user -> index(user.getId(), user.getFirstName(),
+                            user.getLastName(), user.getEmail(), user.getAddress()));
+        }
+        changedDuringWarmUp = null;
+        ready = true;
+        log.info("Search index warmed up with {} users and {} terms", documents.size(),
+                dictionary.size());
+    }
+
+    public void add(User user) {
+        Long id = user.getId();
+        String[] fields = {user.getFirstName(), user.getLastName(), user.getEmail(),
+                user.getAddress()};
+        TransactionUtils.afterCommit(() -> {
+            markChanged(id);
+            index(id, fields);
+        });
+    }
+
+    public void remove(Long id) {
+        TransactionUtils.afterCommit(() -> {
+            markChanged(id);
+            documents.computeIfPresent(id, (documentId, tokens) -> {
+                removePostings(documentId, tokens);
+                return null;
+            });
+        });
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public Slice<Long> search(String query, Pageable pageable) {
+        if (!ready) {
+            throw new IndexNotReadyException("Search index is warming up, retry later.");
+        }
+        Set<String> terms = tokenize(query);
+        if (terms.isEmpty()) {
+            throw new IllegalArgumentException(
+                    "Search query should contain at least one letter or digit.");
+        }
+        List<Map<String, Double>> termMatches = terms.stream()
+                .map(this::matchTokens)
+                .sorted(Comparator.comparingLong(this::countPostings))
+                .toList();
+        long limit = pageable.getOffset() + pageable.getPageSize() + 1;
+        PriorityQueue<Map.Entry<Long, Double>> top = new PriorityQueue<>(BY_SCORE.reversed());
+        List<Map<String, Double>> otherMatches = termMatches.subList(1, termMatches.size());
+        Set<Long> seen = new HashSet<>();
+        for (Map.Entry<String, Double> match : termMatches.get(0).entrySet()) {
+            Postings ids = postings.get(match.getKey());
+            if (ids == null) {
+                continue;
+            }
+            ids.forEach(id -> {
+                if (!seen.add(id)) {
+                    return;
+                }
+                double score = scoreByDocument(id, match.getValue(), otherMatches);
+                if (score > 0) {
+                    top.add(Map.entry(id, score));
+                    if (top.size() > limit) {
+                        top.poll();
+                    }
+                }
+            });
+        }
+        List<Long> ids = new ArrayList<>(top.size());
+        top.stream()
+                .sorted(BY_SCORE)
+                .skip(pageable.getOffset())
+                .forEach(score -> ids.add(score.getKey()));
+        boolean hasNext = ids.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? ids.subList(0, pageable.getPageSize()) : ids, pageable,
+                hasNext);
+    }
+
+    private long countPostings(Map<String, Double> matches) {
+        long count = 0;
+        for (String token : matches.keySet()) {
+            Postings ids = postings.get(token);
+            count += ids == null ? 0 : ids.size();
+        }
+        return count;
+    }
+
+    private double scoreByDocument(long id, double score,
+                                   List<Map<String, Double>> otherMatches) {
+        if (otherMatches.isEmpty()) {
+            return score;
+        }
+        String[] tokens = documents.get(id);
+        if (tokens == null) {
+            return 0;
+        }
+        for (Map<String, Double> matches : otherMatches) {
+            double bestScore = 0;
+            for (String token : tokens) {
+                bestScore = Math.max(bestScore, matches.getOrDefault(token, 0.0));
+            }
+            if (bestScore == 0) {
+                return 0;
+            }
+            score += bestScore;
+        }
+        return score;
+    }
+
+    private Map<String, Double> matchTokens(String term) {
+        Map<String, Double> matches = new HashMap<>();
+        if (postings.containsKey(term)) {
+            matches.put(term, 1.0);
+        }
+        if (term.length() >= MIN_PREFIX_LENGTH) {
+            int prefixMatches = 0;
+            for (String token : dictionary.subSet(term, false, term + Character.MAX_VALUE,
+                    false)) {
+                if (prefixMatches++ == MAX_TOKENS_PER_TERM) {
+                    break;
+                }
+                matches.put(token, PREFIX_SCORE + PREFIX_SCORE * term.length() / token.length());
+            }
+        }
+        if (term.length() >= MIN_FUZZY_LENGTH && hasTrigrams(term)) {
+            Set<String> termTrigrams = trigramsOf(term);
+            Map<String, Integer> sharedTrigrams = new HashMap<>();
+            for (String trigram : termTrigrams) {
+                Set<String> tokens = trigrams.get(trigram);
+                if (tokens != null) {
+                    tokens.forEach(token -> sharedTrigrams.merge(token, 1, Integer::sum));
+                }
+            }
+            for (Map.Entry<String, Integer> shared : sharedTrigrams.entrySet()) {
+                String token = shared.getKey();
+                double similarity = (double) shared.getValue() / (termTrigrams.size()
+                        + trigramsOf(token).size() - shared.getValue());
+                if (similarity >= MIN_SIMILARITY) {
+                    matches.merge(token, FUZZY_SCORE * similarity, Math::max);
+                }
+            }
+        }
+        Map<String, Double> bestMatches = new LinkedHashMap<>();
+        matches.entrySet().stream()
+                .sorted(Map.Entry.<String, Double>comparingByValue().reversed())
+                .limit(MAX_TOKENS_PER_TERM)
+                .forEach(match -> bestMatches.put(match.getKey(), match.getValue()));
+        return bestMatches;
+    }
+
+    private void index(Long id, String... fields) {
+        if (id == null) {
+            return;
+        }
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String field : fields) {
+            tokens.addAll(tokenize(field));
+        }
+        String[] newTokens = tokens.toArray(NO_TOKENS);
+        documents.compute(id, (documentId, oldTokens) -> {
+            if (oldTokens != null) {
+                removePostings(documentId, oldTokens);
+            }
+            for (String newToken : newTokens) {
+                postings.compute(newToken, (token, ids) -> {
+                    if (ids == null) {
+                        ids = new Postings();
+                        addToken(token);
+                    }
+                    ids.add(documentId);
+                    return ids;
+                });
+            }
+            return newTokens;
+        });
+    }
+
+    private void removePostings(Long id, String[] tokens) {
+        for (String token : tokens) {
+            postings.computeIfPresent(token, (key, ids) -> {
+                ids.remove(id);
+                if (!ids.isEmpty()) {
+                    return ids;
+                }
+                removeToken(token);
+                return null;
+            });
+        }
+    }
+
+    private void addToken(String token) {
+        dictionary.add(token);
+        if (hasTrigrams(token)) {
+            for (String trigram : trigramsOf(token)) {
+                trigrams.computeIfAbsent(trigram, key -> ConcurrentHashMap.newKeySet())
+                        .add(token);
+            }
+        }
+    }
+
+    private void removeToken(String token) {
+        dictionary.remove(token);
+        if (hasTrigrams(token)) {
+            for (String trigram : trigramsOf(token)) {
+                trigrams.computeIfPresent(trigram, (key, tokens) -> {
+                    tokens.remove(token);
+                    return tokens.isEmpty() ? null : tokens;
+                });
+            }
+        }
+    }
+
+    private static boolean hasTrigrams(String token) {
+        return token.chars().allMatch(Character::isLetter);
+    }
+
+    private void markChanged(Long id) {
+        Set<Long> changed = changedDuringWarmUp;
+        if (changed != null && id != null) {
+            changed.add(id);
+        }
+    }
+
+    static Set<String> tokenize(String text) {
+        Set<String> tokens = new LinkedHashSet<>();
+        if (text == null) {
+            return tokens;
+        }
+        Arrays.stream(text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+                .filter(token -> !token.isEmpty())
+                .forEach(tokens::add);
+        return tokens;
+    }
+
+    static Set<String> trigramsOf(String token) {
+        String padded = "$" + token + "$";
+        Set<String> result = new LinkedHashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            result.add(padded.substring(i, i + 3));
+        }
+        return result;
+    }
+}
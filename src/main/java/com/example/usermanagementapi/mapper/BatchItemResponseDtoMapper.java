@@ -0,0 +1,13 @@
+package com.example.usermanagementapi.mapper;
+
+import com.example.usermanagementapi.config.MyMapperConfig;
+import com.example.usermanagementapi.dto.BatchItemResponseDto;
+import com.example.usermanagementapi.model.BatchResult;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(config = MyMapperConfig.class, uses = UserResponseDtoMapper.class)
+public interface BatchItemResponseDtoMapper {
+    @Mapping(target = "index", ignore = true)
+    BatchItemResponseDto mapToDto(BatchResult batchResult);
+}
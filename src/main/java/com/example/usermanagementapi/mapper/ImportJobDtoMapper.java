@@ -0,0 +1,11 @@
+package com.example.usermanagementapi.mapper;
+
+import com.example.usermanagementapi.config.MyMapperConfig;
+import com.example.usermanagementapi.dto.ImportJobDto;
+import com.example.usermanagementapi.importer.ImportJob;
+import org.mapstruct.Mapper;
+
+@Mapper(config = MyMapperConfig.class)
+public interface ImportJobDtoMapper {
+    ImportJobDto mapToDto(ImportJob importJob);
+}
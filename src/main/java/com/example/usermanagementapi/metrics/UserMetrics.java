@@ -0,0 +1,36 @@
+package com.example.usermanagementapi.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+@Component
+public class UserMetrics {
+    private static final String REJECTED_METER = "users.rejected";
+    private final Counter ageLimitRejections;
+    private final Counter duplicateEmailRejections;
+    private final Counter notFound;
+
+    public UserMetrics(MeterRegistry meterRegistry) {
+        ageLimitRejections = Counter.builder(REJECTED_METER)
+                .tag("reason", "age_limit")
+                .register(meterRegistry);
+        duplicateEmailRejections = Counter.builder(REJECTED_METER)
+                .tag("reason", "duplicate_email")
+                .register(meterRegistry);
+        notFound = Counter.builder("users.not.found")
+                .register(meterRegistry);
+    }
+
+    public void ageLimitRejected() {
+        ageLimitRejections.increment();
+    }
+
+    public void duplicateEmailRejected() {
+        duplicateEmailRejections.increment();
+    }
+
+    public void userNotFound() {
+        notFound.increment();
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.usermanagementapi.model;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class BatchResult {
+    private final Long id;
+    private final User user;
+    private final HttpStatus httpStatus;
+    private final String errorMessage;
+
+    public static BatchResult success(User user, HttpStatus httpStatus) {
+        return new BatchResult(user.getId(), user, httpStatus, null);
+    }
+
+    public static BatchResult success(Long id, HttpStatus httpStatus) {
+        return new BatchResult(id, null, httpStatus, null);
+    }
+
+    public static BatchResult failure(Long id, HttpStatus httpStatus, String errorMessage) {
+        return new BatchResult(id, null, httpStatus, errorMessage);
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.usermanagementapi.model;
+
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class BirthDateCount {
+    private final LocalDate birthDate;
+    private final long count;
+}
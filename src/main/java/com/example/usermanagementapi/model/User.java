@@ -1,29 +1,53 @@
 package com.example.usermanagementapi.model;
 
+import com.example.usermanagementapi.util.EmailUtils;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.Version;
 import java.time.LocalDate;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
 
 @Entity
 @Data
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
-@Table(name = "users")
+@DynamicUpdate
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@Table(name = "users",
+        indexes = {
+                @Index(name = "idx_users_birth_date_id", columnList = "birth_date, id"),
+                @Index(name = "idx_users_last_name_first_name",
+                        columnList = "last_name, first_name"),
+                @Index(name = "idx_users_first_name", columnList = "first_name")
+        },
+        uniqueConstraints = @UniqueConstraint(name = "uk_users_normalized_email",
+                columnNames = "normalized_email"))
 public class User {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
     private Long id;
-    @Column(unique = true)
     private String email;
+    @Column(name = "normalized_email")
+    private String normalizedEmail;
     @Column(name = "first_name", nullable = false)
     private String firstName;
     @Column(name = "last_name", nullable = false)
@@ -33,4 +57,12 @@ public class User {
     private String address;
     @Column(name = "phone_number")
     private String phoneNumber;
+    @Version
+    private Long version;
+
+    @PrePersist
+    @PreUpdate
+    public void normalizeEmail() {
+        normalizedEmail = EmailUtils.normalize(email);
+    }
 }
@@ -1,13 +1,116 @@
 package com.example.usermanagementapi.repository;
 
+import com.example.usermanagementapi.dto.UserResponseDto;
+import com.example.usermanagementapi.model.BirthDateCount;
 import com.example.usermanagementapi.model.User;
+import jakarta.persistence.QueryHint;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
-    List<User> findByBirthDateBetween(LocalDate fromDate, LocalDate toDate, Pageable pageable);
+public interface UserRepository extends JpaRepository<User, Long>, JpaSpecificationExecutor<User> {
+    String SELECT_RESPONSE_DTO = "select new com.example.usermanagementapi.dto.UserResponseDto("
+            + "u.id, u.email, u.firstName, u.lastName, u.birthDate, u.address, u.phoneNumber,"
+            + " u.version) from User u";
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<User> streamByBirthDateBetweenOrderByBirthDateAscIdAsc(LocalDate fromDate,
+                                                                  LocalDate toDate);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(SELECT_RESPONSE_DTO + " where u.id = :id")
+    Optional<UserResponseDto> findResponseDtoById(Long id);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(SELECT_RESPONSE_DTO + " where u.birthDate between :fromDate and :toDate")
+    Slice<UserResponseDto> findResponseDtosByBirthDateBetween(LocalDate fromDate,
+                                                              LocalDate toDate,
+                                                              Pageable pageable);
+
+    long countByBirthDateBetween(LocalDate fromDate, LocalDate toDate);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select u.normalizedEmail from User u")
+    Stream<String> streamAllNormalizedEmails();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(SELECT_RESPONSE_DTO)
+    Stream<UserResponseDto> streamAllResponseDtos();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query(SELECT_RESPONSE_DTO + " where u.id in :ids")
+    List<UserResponseDto> findResponseDtosByIdIn(Collection<Long> ids);
+
+    boolean existsByNormalizedEmail(String normalizedEmail);
+
+    List<User> findByNormalizedEmailIn(Collection<String> normalizedEmails);
+
+    @Query("select u.version from User u where u.id = :id")
+    Long findVersionById(Long id);
+
+    @Query("select u.id from User u where u.id in :ids")
+    Set<Long> findIdsByIdIn(Collection<Long> ids);
+
+    @Query("select new com.example.usermanagementapi.model.BirthDateCount(u.birthDate, count(u))"
+            + " from User u group by u.birthDate")
+    List<BirthDateCount> countAllByBirthDate();
+
+    @Query("select u.normalizedEmail from User u where u.normalizedEmail in :normalizedEmails")
+    Set<String> findNormalizedEmailsIn(Collection<String> normalizedEmails);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(SELECT_RESPONSE_DTO + " where u.normalizedEmail = :normalizedEmail")
+    Optional<UserResponseDto> findResponseDtoByNormalizedEmail(String normalizedEmail);
+
+    @Transactional
+    @Modifying
+    @Query("update User u set u.email = :#{#user.email},"
+            + " u.normalizedEmail = :#{#user.normalizedEmail}, u.firstName = :#{#user.firstName},"
+            + " u.lastName = :#{#user.lastName}, u.birthDate = :#{#user.birthDate},"
+            + " u.address = :#{#user.address}, u.phoneNumber = :#{#user.phoneNumber},"
+            + " u.version = u.version + 1"
+            + " where u.id = :id and u.version = coalesce(:#{#user.version}, u.version)")
+    int updateById(Long id, User user);
+
+    @Transactional
+    @Modifying
+    @Query("delete from User u where u.id = :id and u.version = coalesce(:version, u.version)")
+    int deleteUserById(Long id, Long version);
+
+    @Transactional
+    @Modifying
+    @Query("delete from User u where u.id in :ids")
+    int deleteUsersByIdIn(Collection<Long> ids);
 }
@@ -0,0 +1,131 @@
+package com.example.usermanagementapi.repository.specification;
+
+import com.example.usermanagementapi.dto.UserFilterDto;
+import com.example.usermanagementapi.model.User;
+import com.example.usermanagementapi.util.EmailUtils;
+import jakarta.persistence.Column;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class UserFilterPlanner {
+    private static final String BIRTH_DATE = "birthDate";
+    private static final String FIRST_NAME = "firstName";
+    private static final String LAST_NAME = "lastName";
+    private static final String NORMALIZED_EMAIL = "normalizedEmail";
+    private static final String ADDRESS = "address";
+    private final boolean rejectUnindexed;
+    private final Set<String> indexedProperties;
+
+    public UserFilterPlanner(@Value("${user.filter.reject-unindexed}") boolean rejectUnindexed) {
+        this.rejectUnindexed = rejectUnindexed;
+        this.indexedProperties = indexedProperties(User.class);
+    }
+
+    public Specification<User> plan(UserFilterDto filter) {
+        if (filter.getBirthDateFrom() != null && filter.getBirthDateTo() != null
+                && filter.getBirthDateFrom().isAfter(filter.getBirthDateTo())) {
+            throw new IllegalArgumentException(
+                    "\"birthDateFrom\" date should be before \"birthDateTo\" date.");
+        }
+        Plan plan = new Plan();
+        if (filter.getBirthDateFrom() != null) {
+            plan.add("birthDateFrom", BIRTH_DATE,
+                    UserSpecifications.atLeast(BIRTH_DATE, filter.getBirthDateFrom()));
+        }
+        if (filter.getBirthDateTo() != null) {
+            plan.add("birthDateTo", BIRTH_DATE,
+                    UserSpecifications.atMost(BIRTH_DATE, filter.getBirthDateTo()));
+        }
+        if (filter.getLastName() != null) {
+            plan.add("lastName", LAST_NAME,
+                    UserSpecifications.equalTo(LAST_NAME, filter.getLastName()));
+        }
+        if (filter.getLastNamePrefix() != null) {
+            plan.add("lastNamePrefix", LAST_NAME,
+                    UserSpecifications.startsWith(LAST_NAME, filter.getLastNamePrefix()));
+        }
+        if (filter.getFirstName() != null) {
+            plan.add("firstName", FIRST_NAME,
+                    UserSpecifications.equalTo(FIRST_NAME, filter.getFirstName()));
+        }
+        if (filter.getEmail() != null) {
+            plan.add("email", NORMALIZED_EMAIL, UserSpecifications.equalTo(NORMALIZED_EMAIL,
+                    EmailUtils.normalize(filter.getEmail())));
+        }
+        if (filter.getAddressPrefix() != null) {
+            plan.add("addressPrefix", ADDRESS,
+                    UserSpecifications.startsWith(ADDRESS, filter.getAddressPrefix()));
+        }
+        if (!plan.isIndexed()) {
+            String message = "Filter by " + plan.filters + " can't use any index, add one of "
+                    + "birthDateFrom, birthDateTo, lastName, lastNamePrefix, firstName or email.";
+            if (rejectUnindexed) {
+                throw new IllegalArgumentException(message);
+            }
+            log.warn(message);
+        }
+        return Specification.allOf(plan.specifications);
+    }
+
+    static Set<String> indexedProperties(Class<?> entity) {
+        Map<String, String> propertiesByColumn = new HashMap<>();
+        Set<String> properties = new LinkedHashSet<>();
+        for (Field field : entity.getDeclaredFields()) {
+            Column column = field.getAnnotation(Column.class);
+            String columnName = column == null || column.name().isEmpty()
+                    ? field.getName()
+                    : column.name();
+            propertiesByColumn.put(columnName.toLowerCase(Locale.ROOT), field.getName());
+            if (field.isAnnotationPresent(Id.class) || column != null && column.unique()) {
+                properties.add(field.getName());
+            }
+        }
+        Table table = entity.getAnnotation(Table.class);
+        List<String> leadingColumns = new ArrayList<>();
+        for (Index index : table.indexes()) {
+            leadingColumns.add(index.columnList().split(",")[0]);
+        }
+        for (UniqueConstraint uniqueConstraint : table.uniqueConstraints()) {
+            leadingColumns.add(uniqueConstraint.columnNames()[0]);
+        }
+        for (String column : leadingColumns) {
+            String property = propertiesByColumn.get(column.trim().toLowerCase(Locale.ROOT));
+            if (property != null) {
+                properties.add(property);
+            }
+        }
+        return properties;
+    }
+
+    private class Plan {
+        private final List<String> filters = new ArrayList<>();
+        private final List<Specification<User>> specifications = new ArrayList<>();
+        private boolean indexed;
+
+        void add(String filter, String property, Specification<User> specification) {
+            filters.add(filter);
+            specifications.add(specification);
+            indexed |= indexedProperties.contains(property);
+        }
+
+        boolean isIndexed() {
+            return indexed;
+        }
+    }
+}
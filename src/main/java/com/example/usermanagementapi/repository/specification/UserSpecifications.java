@@ -0,0 +1,61 @@
+package com.example.usermanagementapi.repository.specification;
+
+import com.example.usermanagementapi.model.User;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+public class UserSpecifications {
+    public static Specification<User> birthDateBetween(LocalDate from, LocalDate to) {
+        return (root, query, criteriaBuilder) ->
+                criteriaBuilder.between(root.get("birthDate"), from, to);
+    }
+
+    public static <T extends Comparable<? super T>> Specification<User> atLeast(String property,
+                                                                               T value) {
+        return (root, query, criteriaBuilder) ->
+                criteriaBuilder.greaterThanOrEqualTo(root.get(property), value);
+    }
+
+    public static <T extends Comparable<? super T>> Specification<User> atMost(String property,
+                                                                              T value) {
+        return (root, query, criteriaBuilder) ->
+                criteriaBuilder.lessThanOrEqualTo(root.get(property), value);
+    }
+
+    public static Specification<User> equalTo(String property, Object value) {
+        return (root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get(property), value);
+    }
+
+    public static Specification<User> startsWith(String property, String prefix) {
+        String pattern = prefix.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_") + "%";
+        return (root, query, criteriaBuilder) ->
+                criteriaBuilder.like(root.get(property), pattern, '\\');
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static Specification<User> seekAfter(Sort sort, Map<String, Object> keys) {
+        return (root, query, criteriaBuilder) -> {
+            List<Predicate> alternatives = new ArrayList<>();
+            List<Predicate> equalities = new ArrayList<>();
+            for (Sort.Order order : sort) {
+                Path<Comparable> path = root.get(order.getProperty());
+                Comparable value = (Comparable) keys.get(order.getProperty());
+                List<Predicate> alternative = new ArrayList<>(equalities);
+                alternative.add(order.isAscending()
+                        ? criteriaBuilder.greaterThan(path, value)
+                        : criteriaBuilder.lessThan(path, value));
+                alternatives.add(criteriaBuilder.and(alternative.toArray(new Predicate[0])));
+                equalities.add(criteriaBuilder.equal(path, value));
+            }
+            return criteriaBuilder.or(alternatives.toArray(new Predicate[0]));
+        };
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.usermanagementapi.service;
+
+import com.example.usermanagementapi.importer.ImportJob;
+import org.springframework.web.multipart.MultipartFile;
+
+public interface ImportService {
+    ImportJob submit(MultipartFile file, String format);
+
+    ImportJob get(String id);
+}
@@ -0,0 +1,19 @@
+package com.example.usermanagementapi.service;
+
+import com.example.usermanagementapi.dto.UserResponseDto;
+import java.time.LocalDate;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+
+public interface UserResponseService {
+    UserResponseDto get(Long id);
+
+    UserResponseDto getByEmail(String email);
+
+    Slice<UserResponseDto> getAllByBirthDateBetween(LocalDate from, LocalDate to,
+                                                    PageRequest pageRequest);
+
+    long countByBirthDateBetween(LocalDate from, LocalDate to);
+
+    Slice<UserResponseDto> search(String query, PageRequest pageRequest);
+}
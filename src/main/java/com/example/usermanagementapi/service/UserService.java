@@ -1,20 +1,37 @@
 package com.example.usermanagementapi.service;
 
+import com.example.usermanagementapi.dto.UserFilterDto;
+import com.example.usermanagementapi.model.BatchResult;
 import com.example.usermanagementapi.model.User;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.function.Consumer;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 
 public interface UserService {
     User create(User user);
 
+    List<BatchResult> createAll(List<User> users);
+
     User get(Long id);
 
     User update(User user, Long id);
 
     User particularUpdateUser(User user, Long id);
 
-    void delete(Long id);
+    void delete(Long id, Long version);
+
+    List<BatchResult> particularUpdateAll(List<User> users);
+
+    List<BatchResult> deleteAll(List<Long> ids);
+
+    Window<User> getAllUsersByFilter(UserFilterDto filter, PageRequest pageRequest);
+
+    Window<User> scrollUsersByBirthDateBetween(LocalDate from, LocalDate to, Sort sort,
+                                               KeysetScrollPosition position, int count);
 
-    List<User> getAllUsersByBirthDateBetween(LocalDate from, LocalDate to, PageRequest pageRequest);
+    void exportUsersByBirthDateBetween(LocalDate from, LocalDate to, Consumer<User> consumer);
 }
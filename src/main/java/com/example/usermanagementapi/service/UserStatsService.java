@@ -0,0 +1,7 @@
+package com.example.usermanagementapi.service;
+
+import com.example.usermanagementapi.dto.UserStatsDto;
+
+public interface UserStatsService {
+    UserStatsDto getStats();
+}
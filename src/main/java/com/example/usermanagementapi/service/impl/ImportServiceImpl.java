@@ -0,0 +1,274 @@
+package com.example.usermanagementapi.service.impl;
+
+import com.example.usermanagementapi.dto.UserRequestDto;
+import com.example.usermanagementapi.importer.CsvUserRowReader;
+import com.example.usermanagementapi.importer.ImportFormat;
+import com.example.usermanagementapi.importer.ImportJob;
+import com.example.usermanagementapi.importer.ImportRow;
+import com.example.usermanagementapi.importer.NdjsonUserRowReader;
+import com.example.usermanagementapi.importer.RejectedRowsReport;
+import com.example.usermanagementapi.importer.UserRowReader;
+import com.example.usermanagementapi.mapper.UserRequestDtoMapper;
+import com.example.usermanagementapi.model.BatchResult;
+import com.example.usermanagementapi.model.User;
+import com.example.usermanagementapi.service.ImportService;
+import com.example.usermanagementapi.service.UserService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Phaser;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+@Slf4j
+@Service
+public class ImportServiceImpl implements ImportService {
+    private static final String EMPTY_ROW_MESSAGE = "Row is empty";
+    private final UserService userService;
+    private final UserRequestDtoMapper requestDtoMapper;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final Path directory;
+    private final int batchSize;
+    private final Duration retention;
+    private final ExecutorService jobExecutor;
+    private final ThreadPoolExecutor workerExecutor;
+    private final Map<String, ImportJob> jobs = new ConcurrentHashMap<>();
+
+    public ImportServiceImpl(UserService userService,
+                             UserRequestDtoMapper requestDtoMapper,
+                             Validator validator,
+                             ObjectMapper objectMapper,
+                             @Value("${user.import.directory}") Path directory,
+                             @Value("${user.import.batch-size}") int batchSize,
+                             @Value("${user.import.workers}") int workers,
+                             @Value("${user.import.queue-capacity}") int queueCapacity,
+                             @Value("${user.import.concurrent-jobs}") int concurrentJobs,
+                             @Value("${user.import.retention}") Duration retention) {
+        this.userService = userService;
+        this.requestDtoMapper = requestDtoMapper;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.directory = directory;
+        this.batchSize = batchSize;
+        this.retention = retention;
+        this.jobExecutor = Executors.newFixedThreadPool(concurrentJobs,
+                new CustomizableThreadFactory("import-job-"));
+        this.workerExecutor = new ThreadPoolExecutor(workers, workers, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("import-worker-"),
+                (task, executor) -> {
+                    if (executor.isShutdown()) {
+                        throw new RejectedExecutionException("Import workers are shut down");
+                    }
+                    task.run();
+                });
+    }
+
+    @Override
+    public ImportJob submit(MultipartFile file, String format) {
+        ImportFormat importFormat = ImportFormat.of(format, file.getOriginalFilename());
+        removeExpiredJobs();
+        String id = UUID.randomUUID().toString();
+        ImportJob job = new ImportJob(id, importFormat,
+                directory.resolve(id + importFormat.getExtension()),
+                directory.resolve(id + "-rejected.ndjson"));
+        try {
+            Files.createDirectories(directory);
+            file.transferTo(job.getFile());
+            Files.createFile(job.getRejectedRowsFile());
+        } catch (IOException e) {
+            deleteQuietly(job.getFile());
+            throw new UncheckedIOException("Can't store the import file", e);
+        }
+        jobs.put(id, job);
+        jobExecutor.execute(() -> run(job));
+        return job;
+    }
+
+    @Override
+    public ImportJob get(String id) {
+        ImportJob job = jobs.get(id);
+        if (job == null) {
+            throw new EntityNotFoundException("Import job not found with this id: " + id);
+        }
+        return job;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobExecutor.shutdownNow();
+        workerExecutor.shutdownNow();
+    }
+
+    private void run(ImportJob job) {
+        job.start();
+        try (RejectedRowsReport report = new RejectedRowsReport(job.getRejectedRowsFile(),
+                objectMapper)) {
+            readAndImport(job, report);
+            job.complete();
+        } catch (IOException | RuntimeException e) {
+            log.warn("Import job {} failed", job.getId(), e);
+            job.fail(e.getMessage());
+        } finally {
+            deleteQuietly(job.getFile());
+        }
+    }
+
+    private void readAndImport(ImportJob job, RejectedRowsReport report) throws IOException {
+        Phaser pendingChunks = new Phaser(1);
+        AtomicReference<RuntimeException> chunkFailure = new AtomicReference<>();
+        try (UserRowReader reader = openReader(job)) {
+            List<ImportRow> chunk = new ArrayList<>(batchSize);
+            for (ImportRow row = reader.next(); row != null; row = reader.next()) {
+                job.rowRead();
+                chunk.add(row);
+                if (chunk.size() == batchSize) {
+                    submitChunk(job, chunk, report, pendingChunks, chunkFailure);
+                    chunk = new ArrayList<>(batchSize);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                submitChunk(job, chunk, report, pendingChunks, chunkFailure);
+            }
+        } finally {
+            pendingChunks.arriveAndAwaitAdvance();
+        }
+        if (chunkFailure.get() != null) {
+            throw chunkFailure.get();
+        }
+    }
+
+    private UserRowReader openReader(ImportJob job) throws IOException {
+        BufferedReader reader = Files.newBufferedReader(job.getFile(), StandardCharsets.UTF_8);
+        try {
+            return job.getFormat() == ImportFormat.CSV
+                    ? new CsvUserRowReader(reader)
+                    : new NdjsonUserRowReader(reader, objectMapper);
+        } catch (IOException | RuntimeException e) {
+            reader.close();
+            throw e;
+        }
+    }
+
+    private void submitChunk(ImportJob job, List<ImportRow> chunk, RejectedRowsReport report,
+                             Phaser pendingChunks,
+                             AtomicReference<RuntimeException> chunkFailure) {
+        pendingChunks.register();
+        try {
+            workerExecutor.execute(() -> {
+                try {
+                    importChunk(job, chunk, report);
+                } catch (RuntimeException e) {
+                    chunkFailure.compareAndSet(null, e);
+                } finally {
+                    pendingChunks.arriveAndDeregister();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            pendingChunks.arriveAndDeregister();
+            throw e;
+        }
+    }
+
+    private void importChunk(ImportJob job, List<ImportRow> rows, RejectedRowsReport report) {
+        String[] errorMessages = new String[rows.size()];
+        try {
+            List<User> users = new ArrayList<>(rows.size());
+            List<Integer> validIndexes = new ArrayList<>(rows.size());
+            for (int i = 0; i < rows.size(); i++) {
+                ImportRow row = rows.get(i);
+                errorMessages[i] = row.getErrorMessage() == null
+                        ? validate(row.getUser())
+                        : row.getErrorMessage();
+                if (errorMessages[i] == null) {
+                    users.add(requestDtoMapper.mapToModel(row.getUser()));
+                    validIndexes.add(i);
+                }
+            }
+            List<BatchResult> results = users.isEmpty() ? List.of() : userService.createAll(users);
+            for (int i = 0; i < results.size(); i++) {
+                if (results.get(i).getHttpStatus() != HttpStatus.CREATED) {
+                    errorMessages[validIndexes.get(i)] = results.get(i).getErrorMessage();
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Import job {} failed to write rows {}-{}", job.getId(),
+                    rows.get(0).getLine(), rows.get(rows.size() - 1).getLine(), e);
+            for (int i = 0; i < errorMessages.length; i++) {
+                if (errorMessages[i] == null) {
+                    errorMessages[i] = "Can't save the user: " + e.getMessage();
+                }
+            }
+        }
+        long rejected = 0;
+        for (int i = 0; i < errorMessages.length; i++) {
+            if (errorMessages[i] != null) {
+                report.add(rows.get(i), errorMessages[i]);
+                rejected++;
+            }
+        }
+        job.rowsProcessed(rows.size() - rejected, rejected);
+    }
+
+    private String validate(UserRequestDto user) {
+        if (user == null) {
+            return EMPTY_ROW_MESSAGE;
+        }
+        Set<ConstraintViolation<UserRequestDto>> violations = validator.validate(user);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private void removeExpiredJobs() {
+        Instant expiredBefore = Instant.now().minus(retention);
+        jobs.values().removeIf(job -> {
+            if (job.isFinished() && job.getFinishedAt().isBefore(expiredBefore)) {
+                deleteQuietly(job.getRejectedRowsFile());
+                return true;
+            }
+            return false;
+        });
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Can't delete the import file {}", file, e);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.usermanagementapi.service.impl;
+
+import com.example.usermanagementapi.config.CacheConfig;
+import com.example.usermanagementapi.dto.UserResponseDto;
+import com.example.usermanagementapi.index.UserSearchIndex;
+import com.example.usermanagementapi.metrics.UserMetrics;
+import com.example.usermanagementapi.repository.UserRepository;
+import com.example.usermanagementapi.service.UserResponseService;
+import com.example.usermanagementapi.util.EmailUtils;
+import com.example.usermanagementapi.util.UserErrorUtils;
+import io.micrometer.core.annotation.Timed;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@Timed(value = "user.service", percentiles = {0.5, 0.95, 0.99}, histogram = true)
+public class UserResponseServiceImpl implements UserResponseService {
+    private final UserRepository userRepository;
+    private final UserMetrics userMetrics;
+    private final UserSearchIndex userSearchIndex;
+
+    @Autowired
+    public UserResponseServiceImpl(UserRepository userRepository, UserMetrics userMetrics,
+                                   UserSearchIndex userSearchIndex) {
+        this.userRepository = userRepository;
+        this.userMetrics = userMetrics;
+        this.userSearchIndex = userSearchIndex;
+    }
+
+    @Override
+    @Cacheable(cacheNames = CacheConfig.USERS_CACHE, key = "#id")
+    @Transactional(readOnly = true)
+    public UserResponseDto get(Long id) {
+        return userRepository.findResponseDtoById(id)
+                .orElseThrow(() -> UserErrorUtils.userNotFound(userMetrics, id));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public UserResponseDto getByEmail(String email) {
+        return userRepository.findResponseDtoByNormalizedEmail(EmailUtils.normalize(email))
+                .orElseThrow(() -> UserErrorUtils.userWithEmailNotFound(userMetrics, email));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<UserResponseDto> getAllByBirthDateBetween(LocalDate from, LocalDate to,
+                                                           PageRequest pageRequest) {
+        return userRepository.findResponseDtosByBirthDateBetween(from, to, pageRequest);
+    }
+
+    @Override
+    @Cacheable(cacheNames = CacheConfig.USER_COUNTS_CACHE)
+    @Transactional(readOnly = true)
+    public long countByBirthDateBetween(LocalDate from, LocalDate to) {
+        return userRepository.countByBirthDateBetween(from, to);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<UserResponseDto> search(String query, PageRequest pageRequest) {
+        Slice<Long> ids = userSearchIndex.search(query, pageRequest);
+        if (!ids.hasContent()) {
+            return new SliceImpl<>(List.of(), pageRequest, false);
+        }
+        Map<Long, UserResponseDto> usersById = userRepository
+                .findResponseDtosByIdIn(ids.getContent()).stream()
+                .collect(Collectors.toMap(UserResponseDto::getId, Function.identity()));
+        List<UserResponseDto> users = ids.stream()
+                .map(usersById::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new SliceImpl<>(users, pageRequest, ids.hasNext());
+    }
+}
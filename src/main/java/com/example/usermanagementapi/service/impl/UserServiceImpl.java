@@ -1,97 +1,441 @@
 package com.example.usermanagementapi.service.impl;
 
+import com.example.usermanagementapi.config.CacheConfig;
+import com.example.usermanagementapi.dto.UserFilterDto;
+import com.example.usermanagementapi.index.EmailIndex;
+import com.example.usermanagementapi.index.UserSearchIndex;
+import com.example.usermanagementapi.metrics.UserMetrics;
+import com.example.usermanagementapi.model.BatchResult;
 import com.example.usermanagementapi.model.User;
 import com.example.usermanagementapi.repository.UserRepository;
+import com.example.usermanagementapi.repository.specification.UserFilterPlanner;
+import com.example.usermanagementapi.repository.specification.UserSpecifications;
 import com.example.usermanagementapi.service.UserService;
+import com.example.usermanagementapi.util.CursorUtils;
+import com.example.usermanagementapi.util.EmailUtils;
+import com.example.usermanagementapi.util.UserErrorUtils;
+import com.example.usermanagementapi.util.UserUtils;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
+@Timed(value = "user.service", percentiles = {0.5, 0.95, 0.99}, histogram = true)
 public class UserServiceImpl implements UserService {
+    private static final int EMAIL_LOOKUP_CHUNK_SIZE = 1000;
+    private static final int BULK_CHUNK_SIZE = 1000;
     private final int userAgeLimit;
     private final UserRepository userRepository;
+    private final EntityManager entityManager;
+    private final UserMetrics userMetrics;
+    private final EmailIndex emailIndex;
+    private final UserSearchIndex userSearchIndex;
+    private final UserFilterPlanner userFilterPlanner;
 
     @Autowired
     public UserServiceImpl(@Value("${user.age.limit}") int userAgeLimit,
-                           UserRepository userRepository) {
+                           UserRepository userRepository,
+                           EntityManager entityManager,
+                           UserMetrics userMetrics,
+                           EmailIndex emailIndex,
+                           UserSearchIndex userSearchIndex,
+                           UserFilterPlanner userFilterPlanner) {
         this.userAgeLimit = userAgeLimit;
         this.userRepository = userRepository;
+        this.entityManager = entityManager;
+        this.userMetrics = userMetrics;
+        this.emailIndex = emailIndex;
+        this.userSearchIndex = userSearchIndex;
+        this.userFilterPlanner = userFilterPlanner;
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.USER_COUNTS_CACHE, allEntries = true)
     public User create(User user) {
         return saveValidUser(user);
     }
 
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.USER_COUNTS_CACHE, allEntries = true)
+    public List<BatchResult> createAll(List<User> users) {
+        BatchResult[] results = new BatchResult[users.size()];
+        Set<String> existingEmails = findExistingEmails(users);
+        Set<String> batchEmails = new HashSet<>();
+        List<User> validUsers = new ArrayList<>();
+        List<Integer> validIndexes = new ArrayList<>();
+        for (int i = 0; i < users.size(); i++) {
+            User user = users.get(i);
+            if (!isValidUserAge(user)) {
+                userMetrics.ageLimitRejected();
+                results[i] = BatchResult.failure(null, HttpStatus.BAD_REQUEST,
+                        ageLimitMessage());
+            } else if (existingEmails.contains(EmailUtils.normalize(user.getEmail()))
+                    || !batchEmails.add(EmailUtils.normalize(user.getEmail()))) {
+                userMetrics.duplicateEmailRejected();
+                results[i] = BatchResult.failure(null, HttpStatus.BAD_REQUEST,
+                        UserErrorUtils.DUPLICATE_EMAIL_MESSAGE);
+            } else {
+                validUsers.add(user);
+                validIndexes.add(i);
+            }
+        }
+        List<BatchResult> savedResults = saveAllOrEachSeparately(validUsers);
+        for (int i = 0; i < validIndexes.size(); i++) {
+            results[validIndexes.get(i)] = savedResults.get(i);
+        }
+        return Arrays.asList(results);
+    }
+
     @Override
     public User get(Long id) {
         return userRepository.findById(id)
-                .orElseThrow(() -> new EntityNotFoundException("User not found with"
-                        + " this id: " + id));
+                .orElseThrow(() -> userNotFound(id));
     }
 
     @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.USERS_CACHE, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.USER_JSON_CACHE, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.USER_COUNTS_CACHE, allEntries = true)
+    })
+    @Transactional
     public User update(User user, Long id) {
-        get(id);
+        checkUserAge(user);
+        user.normalizeEmail();
+        if (userRepository.updateById(id, user) == 0) {
+            throw userNotFoundOrModified(id, user.getVersion());
+        }
         user.setId(id);
-        return saveValidUser(user);
+        indexUser(user);
+        user.setVersion(user.getVersion() == null
+                ? userRepository.findVersionById(id)
+                : user.getVersion() + 1);
+        return user;
     }
 
     @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.USERS_CACHE, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.USER_JSON_CACHE, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.USER_COUNTS_CACHE, allEntries = true)
+    })
+    @Transactional
     public User particularUpdateUser(User user, Long id) {
         User oldUser = get(id);
-        updateUserFieldsIfProvided(user, oldUser);
-        return saveValidUser(oldUser);
+        if (user.getVersion() != null && !user.getVersion().equals(oldUser.getVersion())) {
+            throw userModified(id);
+        }
+        if (UserUtils.updateUserFieldsIfProvided(user, oldUser)) {
+            checkUserAge(oldUser);
+            indexUser(oldUser);
+        }
+        return oldUser;
     }
 
     @Override
-    public void delete(Long id) {
-        userRepository.deleteById(id);
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.USERS_CACHE, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.USER_JSON_CACHE, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.USER_COUNTS_CACHE, allEntries = true)
+    })
+    @Transactional
+    public void delete(Long id, Long version) {
+        if (userRepository.deleteUserById(id, version) == 0) {
+            throw userNotFoundOrModified(id, version);
+        }
+        userSearchIndex.remove(id);
     }
 
     @Override
-    public List<User> getAllUsersByBirthDateBetween(LocalDate from, LocalDate to,
-                                                    PageRequest pageRequest) {
-        return userRepository.findByBirthDateBetween(from, to, pageRequest);
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.USERS_CACHE, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.USER_JSON_CACHE, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.USER_COUNTS_CACHE, allEntries = true)
+    })
+    @Transactional
+    public List<BatchResult> particularUpdateAll(List<User> users) {
+        BatchResult[] results = new BatchResult[users.size()];
+        Set<Long> batchIds = new HashSet<>();
+        Map<String, Long> batchEmails = new HashMap<>();
+        for (int from = 0; from < users.size(); from += BULK_CHUNK_SIZE) {
+            int to = Math.min(from + BULK_CHUNK_SIZE, users.size());
+            List<User> chunk = users.subList(from, to);
+            Map<Long, User> oldUsers = findAllByIdIn(chunk);
+            Map<String, Long> emailOwners = findEmailOwners(chunk);
+            for (int i = from; i < to; i++) {
+                results[i] = particularUpdate(users.get(i), oldUsers, emailOwners, batchIds,
+                        batchEmails);
+            }
+            userRepository.flush();
+            entityManager.clear();
+        }
+        return Arrays.asList(results);
     }
 
-    private User saveValidUser(User user) {
-        if (isValidUserAge(user)) {
-            return userRepository.save(user);
+    @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.USERS_CACHE, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.USER_JSON_CACHE, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.USER_COUNTS_CACHE, allEntries = true)
+    })
+    @Transactional
+    public List<BatchResult> deleteAll(List<Long> ids) {
+        List<Long> distinctIds = ids.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        Set<Long> deletedIds = new HashSet<>();
+        for (int from = 0; from < distinctIds.size(); from += BULK_CHUNK_SIZE) {
+            List<Long> chunk = distinctIds.subList(from, Math.min(from + BULK_CHUNK_SIZE,
+                    distinctIds.size()));
+            Set<Long> existingIds = userRepository.findIdsByIdIn(chunk);
+            if (!existingIds.isEmpty()) {
+                userRepository.deleteUsersByIdIn(existingIds);
+                deletedIds.addAll(existingIds);
+                existingIds.forEach(userSearchIndex::remove);
+            }
         }
-        throw new IllegalArgumentException("Can't register the user who is younger"
-                + " than 18 years old");
+        return ids.stream()
+                .map(id -> deletedIds.contains(id)
+                        ? BatchResult.success(id, HttpStatus.NO_CONTENT)
+                        : BatchResult.failure(id, HttpStatus.NOT_FOUND,
+                                userNotFound(id).getMessage()))
+                .toList();
     }
 
-    private boolean isValidUserAge(User user) {
-        LocalDate minimumRegistrationAge = LocalDate.now().minusYears(userAgeLimit);
-        return user.getBirthDate().isEqual(minimumRegistrationAge)
-                || user.getBirthDate().isBefore(minimumRegistrationAge);
+    @Override
+    public Window<User> getAllUsersByFilter(UserFilterDto filter, PageRequest pageRequest) {
+        Sort sort = CursorUtils.withIdTieBreaker(pageRequest.getSort());
+        return userRepository.findBy(userFilterPlanner.plan(filter), query -> query
+                .sortBy(sort)
+                .limit(pageRequest.getPageSize())
+                .scroll(ScrollPosition.offset(pageRequest.getOffset())));
+    }
+
+    @Override
+    public Window<User> scrollUsersByBirthDateBetween(LocalDate from, LocalDate to, Sort sort,
+                                                      KeysetScrollPosition position, int count) {
+        Sort keysetSort = CursorUtils.withIdTieBreaker(sort);
+        Specification<User> specification = UserSpecifications.birthDateBetween(from, to);
+        if (!position.isInitial()) {
+            specification = specification.and(UserSpecifications.seekAfter(keysetSort,
+                    position.getKeys()));
+        }
+        List<User> users = userRepository.findBy(specification,
+                query -> query.sortBy(keysetSort).limit(count + 1).all());
+        boolean hasNext = users.size() > count;
+        List<User> content = hasNext ? users.subList(0, count) : users;
+        return Window.from(content,
+                index -> ScrollPosition.forward(CursorUtils.keysOf(content.get(index),
+                        keysetSort)), hasNext);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportUsersByBirthDateBetween(LocalDate from, LocalDate to,
+                                              Consumer<User> consumer) {
+        Session session = entityManager.unwrap(Session.class);
+        CacheMode cacheMode = session.getCacheMode();
+        session.setCacheMode(CacheMode.IGNORE);
+        try (Stream<User> users = userRepository
+                .streamByBirthDateBetweenOrderByBirthDateAscIdAsc(from, to)) {
+            users.forEach(user -> {
+                consumer.accept(user);
+                entityManager.detach(user);
+            });
+        } finally {
+            session.setCacheMode(cacheMode);
+        }
+    }
+
+    private BatchResult particularUpdate(User user, Map<Long, User> oldUsers,
+                                         Map<String, Long> emailOwners, Set<Long> batchIds,
+                                         Map<String, Long> batchEmails) {
+        Long id = user.getId();
+        if (id == null) {
+            return BatchResult.failure(null, HttpStatus.BAD_REQUEST, "User id is required.");
+        }
+        if (!batchIds.add(id)) {
+            return BatchResult.failure(id, HttpStatus.BAD_REQUEST,
+                    "User id is repeated in the batch.");
+        }
+        User oldUser = oldUsers.get(id);
+        if (oldUser == null) {
+            return BatchResult.failure(id, HttpStatus.NOT_FOUND, userNotFound(id).getMessage());
+        }
+        if (!UserUtils.updateUserFieldsIfProvided(user, oldUser)) {
+            return BatchResult.success(oldUser, HttpStatus.OK);
+        }
+        if (!isValidUserAge(oldUser)) {
+            entityManager.detach(oldUser);
+            userMetrics.ageLimitRejected();
+            return BatchResult.failure(id, HttpStatus.BAD_REQUEST, ageLimitMessage());
+        }
+        String normalizedEmail = EmailUtils.normalize(oldUser.getEmail());
+        Long emailOwner = emailOwners.getOrDefault(normalizedEmail, id);
+        if (!emailOwner.equals(id)
+                || !batchEmails.getOrDefault(normalizedEmail, id).equals(id)) {
+            entityManager.detach(oldUser);
+            userMetrics.duplicateEmailRejected();
+            return BatchResult.failure(id, HttpStatus.BAD_REQUEST,
+                    UserErrorUtils.DUPLICATE_EMAIL_MESSAGE);
+        }
+        batchEmails.put(normalizedEmail, id);
+        indexUser(oldUser);
+        return BatchResult.success(oldUser, HttpStatus.OK);
+    }
+
+    private Map<Long, User> findAllByIdIn(List<User> users) {
+        List<Long> ids = users.stream()
+                .map(User::getId)
+                .filter(Objects::nonNull)
+                .toList();
+        Map<Long, User> usersById = new HashMap<>();
+        userRepository.findAllById(ids).forEach(user -> usersById.put(user.getId(), user));
+        return usersById;
     }
 
-    private void updateUserFieldsIfProvided(User user, User oldUser) {
-        if (user.getEmail() != null && !user.getEmail().isBlank()) {
-            oldUser.setEmail(user.getEmail());
+    private Map<String, Long> findEmailOwners(List<User> users) {
+        List<String> emails = users.stream()
+                .map(User::getEmail)
+                .filter(email -> email != null && !email.isBlank())
+                .map(EmailUtils::normalize)
+                .toList();
+        Map<String, Long> emailOwners = new HashMap<>();
+        if (!emails.isEmpty()) {
+            userRepository.findByNormalizedEmailIn(emails).forEach(user ->
+                    emailOwners.put(user.getNormalizedEmail(), user.getId()));
         }
-        if (user.getAddress() != null && !user.getAddress().isBlank()) {
-            oldUser.setAddress(user.getAddress());
+        return emailOwners;
+    }
+
+    private Set<String> findExistingEmails(List<User> users) {
+        Set<String> existingEmails = new HashSet<>();
+        for (int from = 0; from < users.size(); from += EMAIL_LOOKUP_CHUNK_SIZE) {
+            List<String> emails = users.subList(from, Math.min(from + EMAIL_LOOKUP_CHUNK_SIZE,
+                            users.size())).stream()
+                    .map(User::getEmail)
+                    .filter(emailIndex::mightContain)
+                    .map(EmailUtils::normalize)
+                    .toList();
+            if (!emails.isEmpty()) {
+                existingEmails.addAll(userRepository.findNormalizedEmailsIn(emails));
+            }
         }
-        if (user.getFirstName() != null && !user.getFirstName().isBlank()) {
-            oldUser.setFirstName(user.getFirstName());
+        return existingEmails;
+    }
+
+    private List<BatchResult> saveAllOrEachSeparately(List<User> users) {
+        try {
+            List<BatchResult> results = userRepository.saveAll(users).stream()
+                    .map(user -> BatchResult.success(user, HttpStatus.CREATED))
+                    .toList();
+            users.forEach(this::indexUser);
+            return results;
+        } catch (DataIntegrityViolationException e) {
+            users.forEach(user -> {
+                user.setId(null);
+                user.setVersion(null);
+            });
+            return users.stream()
+                    .map(this::saveSeparately)
+                    .toList();
         }
-        if (user.getLastName() != null && !user.getLastName().isBlank()) {
-            oldUser.setLastName(user.getLastName());
+    }
+
+    private BatchResult saveSeparately(User user) {
+        try {
+            User savedUser = userRepository.save(user);
+            indexUser(savedUser);
+            return BatchResult.success(savedUser, HttpStatus.CREATED);
+        } catch (DataIntegrityViolationException e) {
+            if (!UserErrorUtils.isDuplicateEmail(e)) {
+                return BatchResult.failure(null, HttpStatus.CONFLICT,
+                        UserErrorUtils.DATA_INTEGRITY_MESSAGE);
+            }
+            userMetrics.duplicateEmailRejected();
+            return BatchResult.failure(null, HttpStatus.BAD_REQUEST,
+                    UserErrorUtils.DUPLICATE_EMAIL_MESSAGE);
+        }
+    }
+
+    private User saveValidUser(User user) {
+        checkUserAge(user);
+        checkEmailIsFree(user.getEmail());
+        User savedUser = userRepository.save(user);
+        indexUser(savedUser);
+        return savedUser;
+    }
+
+    private void indexUser(User user) {
+        emailIndex.add(user.getEmail());
+        userSearchIndex.add(user);
+    }
+
+    private void checkEmailIsFree(String email) {
+        if (emailIndex.mightContain(email)
+                && userRepository.existsByNormalizedEmail(EmailUtils.normalize(email))) {
+            userMetrics.duplicateEmailRejected();
+            throw new IllegalArgumentException(UserErrorUtils.DUPLICATE_EMAIL_MESSAGE);
         }
-        if (user.getBirthDate() != null) {
-            oldUser.setBirthDate(user.getBirthDate());
+    }
+
+    private void checkUserAge(User user) {
+        if (!isValidUserAge(user)) {
+            userMetrics.ageLimitRejected();
+            throw new IllegalArgumentException(ageLimitMessage());
         }
-        if (user.getPhoneNumber() != null && !user.getPhoneNumber().isBlank()) {
-            oldUser.setPhoneNumber(user.getPhoneNumber());
+    }
+
+    private EntityNotFoundException userNotFound(Long id) {
+        return UserErrorUtils.userNotFound(userMetrics, id);
+    }
+
+    private RuntimeException userNotFoundOrModified(Long id, Long version) {
+        if (version != null && userRepository.existsById(id)) {
+            return userModified(id);
         }
+        return userNotFound(id);
+    }
+
+    private OptimisticLockingFailureException userModified(Long id) {
+        return new OptimisticLockingFailureException("User with id " + id
+                + " was modified by another request");
+    }
+
+    private String ageLimitMessage() {
+        return UserErrorUtils.ageLimitMessage(userAgeLimit);
+    }
+
+    private boolean isValidUserAge(User user) {
+        return UserUtils.isValidUserAge(user, userAgeLimit);
     }
 }
@@ -0,0 +1,64 @@
+package com.example.usermanagementapi.service.impl;
+
+import com.example.usermanagementapi.dto.AgeBucketDto;
+import com.example.usermanagementapi.dto.UserStatsDto;
+import com.example.usermanagementapi.index.BirthDateHistogram;
+import com.example.usermanagementapi.service.UserStatsService;
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+@Service
+public class UserStatsServiceImpl implements UserStatsService {
+    private final int userAgeLimit;
+    private final int ageBucketWidth;
+    private final BirthDateHistogram birthDateHistogram;
+
+    @Autowired
+    public UserStatsServiceImpl(@Value("${user.age.limit}") int userAgeLimit,
+                                @Value("${user.stats.age-bucket-width}") int ageBucketWidth,
+                                BirthDateHistogram birthDateHistogram) {
+        if (ageBucketWidth < 1) {
+            throw new IllegalArgumentException("Age bucket width should be positive.");
+        }
+        this.userAgeLimit = userAgeLimit;
+        this.ageBucketWidth = ageBucketWidth;
+        this.birthDateHistogram = birthDateHistogram;
+    }
+
+    @Override
+    public UserStatsDto getStats() {
+        LocalDate today = LocalDate.now();
+        List<AgeBucketDto> ageBuckets = new ArrayList<>();
+        LocalDate oldestBirthDate = birthDateHistogram.oldestBirthDate();
+        int maxAge = oldestBirthDate == null
+                ? -1
+                : Period.between(oldestBirthDate, today).getYears();
+        for (int fromAge = userAgeLimit; fromAge <= maxAge; fromAge += ageBucketWidth) {
+            int toAge = fromAge + ageBucketWidth - 1;
+            ageBuckets.add(AgeBucketDto.builder()
+                    .fromAge(fromAge)
+                    .toAge(toAge)
+                    .count(countByAgeBetween(fromAge, toAge, today))
+                    .build());
+        }
+        return UserStatsDto.builder()
+                .totalUsers(birthDateHistogram.count())
+                .underAgeLimitUsers(birthDateHistogram.countBetween(
+                        today.minusYears(userAgeLimit).plusDays(1), LocalDate.MAX))
+                .ageLimit(userAgeLimit)
+                .ageBuckets(ageBuckets)
+                .birthYears(birthDateHistogram.countByBirthYear())
+                .refreshedAt(birthDateHistogram.refreshedAt())
+                .build();
+    }
+
+    private long countByAgeBetween(int fromAge, int toAge, LocalDate today) {
+        return birthDateHistogram.countBetween(today.minusYears(toAge + 1L).plusDays(1),
+                today.minusYears(fromAge));
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.usermanagementapi.util;
+
+import com.example.usermanagementapi.dto.BatchItemResponseDto;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.http.HttpStatus;
+
+public class BatchUtils {
+    public static <T> BatchItemResponseDto[] rejectInvalid(Validator validator, List<T> requests,
+                                                          List<Integer> validIndexes) {
+        BatchItemResponseDto[] responses = new BatchItemResponseDto[requests.size()];
+        for (int i = 0; i < requests.size(); i++) {
+            Set<ConstraintViolation<T>> violations = validator.validate(requests.get(i));
+            if (violations.isEmpty()) {
+                validIndexes.add(i);
+            } else {
+                responses[i] = BatchItemResponseDto.builder()
+                        .index(i)
+                        .httpStatus(HttpStatus.BAD_REQUEST)
+                        .errorMessage(violations.stream()
+                                .map(ConstraintViolation::getMessage)
+                                .sorted()
+                                .collect(Collectors.joining("; ")))
+                        .build();
+            }
+        }
+        return responses;
+    }
+
+    public static List<BatchItemResponseDto> merge(BatchItemResponseDto[] responses,
+                                                   List<Integer> validIndexes,
+                                                   List<BatchItemResponseDto> validResponses) {
+        for (int i = 0; i < validResponses.size(); i++) {
+            BatchItemResponseDto response = validResponses.get(i);
+            response.setIndex(validIndexes.get(i));
+            responses[validIndexes.get(i)] = response;
+        }
+        return Arrays.asList(responses);
+    }
+}
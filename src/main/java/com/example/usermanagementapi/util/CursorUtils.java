@@ -0,0 +1,83 @@
+package com.example.usermanagementapi.util;
+
+import com.example.usermanagementapi.model.User;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.io.IOException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+public class CursorUtils {
+    private static final String ID_PROPERTY = "id";
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private static final TypeReference<LinkedHashMap<String, Object>> KEYS_TYPE =
+            new TypeReference<>() {};
+
+    public static String encode(ScrollPosition position) {
+        if (!(position instanceof KeysetScrollPosition)) {
+            throw new IllegalStateException("Only keyset positions can be encoded as a cursor");
+        }
+        Map<String, Object> keys = ((KeysetScrollPosition) position).getKeys();
+        try {
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(OBJECT_MAPPER.writeValueAsBytes(keys));
+        } catch (IOException e) {
+            throw new IllegalStateException("Can't encode the cursor " + position, e);
+        }
+    }
+
+    public static KeysetScrollPosition decode(String cursor, Sort sort) {
+        if (cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+        Map<String, Object> rawKeys;
+        try {
+            rawKeys = OBJECT_MAPPER.readValue(Base64.getUrlDecoder().decode(cursor), KEYS_TYPE);
+        } catch (IOException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor.");
+        }
+        if (!rawKeys.keySet().equals(keyProperties(sort))) {
+            throw new IllegalArgumentException("Cursor doesn't match the requested sortBy.");
+        }
+        Map<String, Object> keys = new LinkedHashMap<>();
+        rawKeys.forEach((property, value) -> keys.put(property,
+                OBJECT_MAPPER.convertValue(value, BeanUtils.findPropertyType(property,
+                        User.class))));
+        return ScrollPosition.forward(keys);
+    }
+
+    public static Sort withIdTieBreaker(Sort sort) {
+        return sort.getOrderFor(ID_PROPERTY) == null
+                ? sort.and(Sort.by(ID_PROPERTY))
+                : sort;
+    }
+
+    public static Map<String, Object> keysOf(User user, Sort sort) {
+        BeanWrapper userWrapper = new BeanWrapperImpl(user);
+        Map<String, Object> keys = new LinkedHashMap<>();
+        sort.forEach(order -> keys.put(order.getProperty(),
+                userWrapper.getPropertyValue(order.getProperty())));
+        return keys;
+    }
+
+    private static Set<String> keyProperties(Sort sort) {
+        Set<String> properties = sort.stream()
+                .map(Sort.Order::getProperty)
+                .collect(Collectors.toSet());
+        properties.add(ID_PROPERTY);
+        return properties;
+    }
+}
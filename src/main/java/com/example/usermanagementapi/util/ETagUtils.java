@@ -0,0 +1,26 @@
+package com.example.usermanagementapi.util;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+public class ETagUtils {
+    private static final String ANY_TAG = "*";
+    private static final Pattern VERSION_TAG = Pattern.compile("\"(\\d{1,18})\"");
+
+    public static String toETag(Long version) {
+        return "\"" + version + "\"";
+    }
+
+    public static Long parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals(ANY_TAG)) {
+            return null;
+        }
+        Matcher matcher = VERSION_TAG.matcher(ifMatch.trim());
+        if (!matcher.matches()) {
+            throw new OptimisticLockingFailureException("If-Match " + ifMatch
+                    + " doesn't match the current version of the user");
+        }
+        return Long.valueOf(matcher.group(1));
+    }
+}
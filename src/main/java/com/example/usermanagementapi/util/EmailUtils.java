@@ -0,0 +1,9 @@
+package com.example.usermanagementapi.util;
+
+import java.util.Locale;
+
+public class EmailUtils {
+    public static String normalize(String email) {
+        return email == null ? null : email.trim().toLowerCase(Locale.ROOT);
+    }
+}
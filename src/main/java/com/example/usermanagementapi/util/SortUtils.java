@@ -1,29 +1,57 @@
 package com.example.usermanagementapi.util;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
 
+@Component
 public class SortUtils {
-    public static Sort createSort(String sortBy) {
+    private static final Set<String> SORTABLE_PROPERTIES =
+            Set.of("id", "firstName", "lastName", "birthDate");
+    private static final int MAX_CACHED_SORTS = 256;
+    private final Cache<String, Sort> sorts = Caffeine.newBuilder()
+            .maximumSize(MAX_CACHED_SORTS)
+            .build();
+
+    public Sort createSort(String sortBy) {
+        return sorts.get(sortBy, this::parseSort);
+    }
+
+    private Sort parseSort(String sortBy) {
         List<Sort.Order> orders = new ArrayList<>();
-        if (sortBy.contains(":")) {
-            String[] sortingFields = sortBy.split(";");
-            for (String field : sortingFields) {
-                Sort.Order order;
-                if (field.contains(":")) {
-                    String[] fieldAndDirections = field.split(":");
-                    order = new Sort.Order(Sort.Direction.valueOf(fieldAndDirections[1]),
-                            fieldAndDirections[0]);
-                } else {
-                    order = new Sort.Order(Sort.Direction.DESC, field);
-                }
-                orders.add(order);
+        Set<String> properties = new HashSet<>();
+        for (String field : sortBy.split(";")) {
+            String[] fieldAndDirection = field.split(":", -1);
+            if (fieldAndDirection.length > 2) {
+                throw new IllegalArgumentException("Invalid sortBy: " + sortBy);
+            }
+            String property = fieldAndDirection[0].trim();
+            if (!SORTABLE_PROPERTIES.contains(property)) {
+                throw new IllegalArgumentException("Can't sort by \"" + property
+                        + "\", sortable fields are " + SORTABLE_PROPERTIES);
             }
-        } else {
-            Sort.Order order = new Sort.Order(Sort.Direction.DESC, sortBy);
-            orders.add(order);
+            if (!properties.add(property)) {
+                throw new IllegalArgumentException("Duplicate sort field: " + property);
+            }
+            Sort.Direction direction = fieldAndDirection.length == 2
+                    ? parseDirection(fieldAndDirection[1].trim())
+                    : Sort.Direction.DESC;
+            orders.add(new Sort.Order(direction, property));
         }
         return Sort.by(orders);
     }
+
+    private Sort.Direction parseDirection(String direction) {
+        try {
+            return Sort.Direction.fromString(direction);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid sort direction: " + direction
+                    + ", expected ASC or DESC");
+        }
+    }
 }
@@ -0,0 +1,66 @@
+package com.example.usermanagementapi.util;
+
+import com.example.usermanagementapi.metrics.UserMetrics;
+import jakarta.persistence.EntityNotFoundException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BindingResult;
+
+public class UserErrorUtils {
+    public static final String DUPLICATE_EMAIL_MESSAGE = "A user with this email already exists.";
+    public static final String DATA_INTEGRITY_MESSAGE =
+            "The user conflicts with the data already stored.";
+    private static final String NORMALIZED_EMAIL_CONSTRAINT = "uk_users_normalized_email";
+
+    public static EntityNotFoundException userNotFound(UserMetrics userMetrics, Long id) {
+        userMetrics.userNotFound();
+        return userNotFound(id);
+    }
+
+    public static EntityNotFoundException userNotFound(Long id) {
+        return new EntityNotFoundException("User not found with this id: " + id);
+    }
+
+    public static EntityNotFoundException userWithEmailNotFound(UserMetrics userMetrics,
+                                                                String email) {
+        userMetrics.userNotFound();
+        return new EntityNotFoundException("User not found with this email: " + email);
+    }
+
+    public static boolean isDuplicateEmail(DataIntegrityViolationException ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            String message = cause.getMessage();
+            if (message != null && message.toLowerCase(Locale.ROOT)
+                    .contains(NORMALIZED_EMAIL_CONSTRAINT)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public static String ageLimitMessage(int userAgeLimit) {
+        return "Can't register the user who is younger than " + userAgeLimit + " years old";
+    }
+
+    public static ResponseEntity<Object> errorResponse(HttpStatus status, String message) {
+        return new ResponseEntity<>(errorBody(status, message), status);
+    }
+
+    public static Map<String, Object> errorBody(HttpStatus status, String message) {
+        Map<String, Object> map = new HashMap<>();
+        map.put("errorMessage", message);
+        map.put("httpStatus", status);
+        return map;
+    }
+
+    public static Map<String, String> fieldErrors(BindingResult bindingResult) {
+        Map<String, String> errorMap = new HashMap<>();
+        bindingResult.getFieldErrors().forEach(error ->
+                errorMap.put("error_" + error.getField(), error.getDefaultMessage()));
+        return errorMap;
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.usermanagementapi.util;
+
+import com.example.usermanagementapi.model.User;
+import java.time.LocalDate;
+import java.util.function.Consumer;
+
+public class UserUtils {
+    public static boolean isValidUserAge(User user, int userAgeLimit) {
+        LocalDate minimumRegistrationAge = LocalDate.now().minusYears(userAgeLimit);
+        return user.getBirthDate().isEqual(minimumRegistrationAge)
+                || user.getBirthDate().isBefore(minimumRegistrationAge);
+    }
+
+    public static boolean updateUserFieldsIfProvided(User user, User oldUser) {
+        boolean changed = updateIfProvided(user.getEmail(), oldUser.getEmail(),
+                oldUser::setEmail);
+        changed |= updateIfProvided(user.getAddress(), oldUser.getAddress(),
+                oldUser::setAddress);
+        changed |= updateIfProvided(user.getFirstName(), oldUser.getFirstName(),
+                oldUser::setFirstName);
+        changed |= updateIfProvided(user.getLastName(), oldUser.getLastName(),
+                oldUser::setLastName);
+        changed |= updateIfProvided(user.getPhoneNumber(), oldUser.getPhoneNumber(),
+                oldUser::setPhoneNumber);
+        if (user.getBirthDate() != null && !user.getBirthDate().equals(oldUser.getBirthDate())) {
+            oldUser.setBirthDate(user.getBirthDate());
+            changed = true;
+        }
+        return changed;
+    }
+
+    private static boolean updateIfProvided(String value, String oldValue,
+                                            Consumer<String> setter) {
+        if (value == null || value.isBlank() || value.equals(oldValue)) {
+            return false;
+        }
+        setter.accept(value);
+        return true;
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.usermanagementapi.reactive;
+
+import com.example.usermanagementapi.mapper.impl.BatchItemResponseDtoMapperImpl;
+import com.example.usermanagementapi.mapper.impl.UserRequestDtoMapperImpl;
+import com.example.usermanagementapi.mapper.impl.UserResponseDtoMapperImpl;
+import com.example.usermanagementapi.util.SortUtils;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.data.jpa.JpaRepositoriesAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceTransactionManagerAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.annotation.Import;
+
+@SpringBootApplication(exclude = {
+        DataSourceAutoConfiguration.class,
+        DataSourceTransactionManagerAutoConfiguration.class,
+        HibernateJpaAutoConfiguration.class,
+        JpaRepositoriesAutoConfiguration.class
+})
+@Import({
+        UserRequestDtoMapperImpl.class,
+        UserResponseDtoMapperImpl.class,
+        BatchItemResponseDtoMapperImpl.class,
+        SortUtils.class
+})
+public class ReactiveUserManagementApiApplication {
+    public static void main(String[] args) {
+        application().run(args);
+    }
+
+    public static SpringApplicationBuilder application() {
+        return new SpringApplicationBuilder(ReactiveUserManagementApiApplication.class)
+                .web(WebApplicationType.REACTIVE)
+                .properties("spring.sql.init.schema-locations=classpath:reactive-schema.sql");
+    }
+}
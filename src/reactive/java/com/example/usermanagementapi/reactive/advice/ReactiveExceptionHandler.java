@@ -0,0 +1,55 @@
+package com.example.usermanagementapi.reactive.advice;
+
+import com.example.usermanagementapi.util.UserErrorUtils;
+import jakarta.persistence.EntityNotFoundException;
+import java.util.Map;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.ServerWebExchange;
+
+@RestControllerAdvice
+public class ReactiveExceptionHandler {
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ExceptionHandler(WebExchangeBindException.class)
+    public Map<String, String> handleInvalidArgument(WebExchangeBindException ex) {
+        return UserErrorUtils.fieldErrors(ex.getBindingResult());
+    }
+
+    @ExceptionHandler(EntityNotFoundException.class)
+    public ResponseEntity<Object> handleEntityNotFound(RuntimeException ex) {
+        return UserErrorUtils.errorResponse(HttpStatus.NOT_FOUND, ex.getMessage());
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Object> handleIllegalArgument(RuntimeException ex) {
+        return UserErrorUtils.errorResponse(HttpStatus.BAD_REQUEST, ex.getMessage());
+    }
+
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<Object> handleDataIntegrityViolation(
+            DataIntegrityViolationException ex) {
+        if (!UserErrorUtils.isDuplicateEmail(ex)) {
+            return UserErrorUtils.errorResponse(HttpStatus.CONFLICT,
+                    UserErrorUtils.DATA_INTEGRITY_MESSAGE);
+        }
+        return UserErrorUtils.errorResponse(HttpStatus.BAD_REQUEST,
+                UserErrorUtils.DUPLICATE_EMAIL_MESSAGE);
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<Object> handleOptimisticLockingFailure(ServerWebExchange exchange) {
+        String ifMatch = exchange.getRequest().getHeaders().getFirst(HttpHeaders.IF_MATCH);
+        HttpStatus status = ifMatch == null
+                ? HttpStatus.CONFLICT
+                : HttpStatus.PRECONDITION_FAILED;
+        return UserErrorUtils.errorResponse(status,
+                "The user has been modified since it was read.");
+    }
+}
@@ -0,0 +1,176 @@
+package com.example.usermanagementapi.reactive.controller;
+
+import com.example.usermanagementapi.dto.BatchItemResponseDto;
+import com.example.usermanagementapi.dto.UserRequestDto;
+import com.example.usermanagementapi.dto.UserResponseDto;
+import com.example.usermanagementapi.mapper.BatchItemResponseDtoMapper;
+import com.example.usermanagementapi.mapper.UserRequestDtoMapper;
+import com.example.usermanagementapi.mapper.UserResponseDtoMapper;
+import com.example.usermanagementapi.model.User;
+import com.example.usermanagementapi.reactive.service.ReactiveUserService;
+import com.example.usermanagementapi.util.BatchUtils;
+import com.example.usermanagementapi.util.CursorUtils;
+import com.example.usermanagementapi.util.ETagUtils;
+import com.example.usermanagementapi.util.SortUtils;
+import jakarta.validation.Valid;
+import jakarta.validation.Validator;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/users")
+@RequiredArgsConstructor
+public class ReactiveUserController {
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    static final String HAS_NEXT_HEADER = "X-Has-Next";
+    private final ReactiveUserService userService;
+    private final UserRequestDtoMapper requestDtoMapper;
+    private final UserResponseDtoMapper responseDtoMapper;
+    private final BatchItemResponseDtoMapper batchItemResponseDtoMapper;
+    private final Validator validator;
+    private final SortUtils sortUtils;
+
+    @PostMapping
+    Mono<ResponseEntity<UserResponseDto>> create(
+            @RequestBody @Valid UserRequestDto userRequestDto) {
+        return userService.create(requestDtoMapper.mapToModel(userRequestDto))
+                .map(user -> ResponseEntity.status(HttpStatus.CREATED)
+                        .eTag(ETagUtils.toETag(user.getVersion()))
+                        .body(responseDtoMapper.mapToDto(user)));
+    }
+
+    @PostMapping("/batch")
+    Mono<ResponseEntity<List<BatchItemResponseDto>>> createAll(
+            @RequestBody List<UserRequestDto> userRequestDtos) {
+        List<Integer> validIndexes = new ArrayList<>();
+        BatchItemResponseDto[] responses =
+                BatchUtils.rejectInvalid(validator, userRequestDtos, validIndexes);
+        List<User> users = validIndexes.stream()
+                .map(index -> requestDtoMapper.mapToModel(userRequestDtos.get(index)))
+                .toList();
+        return userService.createAll(users)
+                .map(results -> ResponseEntity.ok(BatchUtils.merge(responses, validIndexes,
+                        results.stream()
+                                .map(batchItemResponseDtoMapper::mapToDto)
+                                .toList())));
+    }
+
+    @GetMapping("/{id}")
+    Mono<ResponseEntity<UserResponseDto>> get(@PathVariable Long id) {
+        return userService.get(id).map(this::withETag);
+    }
+
+    @PutMapping("/{id}")
+    Mono<ResponseEntity<UserResponseDto>> update(
+            @PathVariable Long id, @RequestBody @Valid UserRequestDto userRequestDto,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        User user = requestDtoMapper.mapToModel(userRequestDto);
+        user.setVersion(ETagUtils.parseIfMatch(ifMatch));
+        return userService.update(user, id).map(this::withETag);
+    }
+
+    @PatchMapping("/{id}")
+    Mono<ResponseEntity<UserResponseDto>> partiallyUpdateUser(
+            @PathVariable Long id, @RequestBody UserRequestDto userRequestDto,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        User user = requestDtoMapper.mapToModel(userRequestDto);
+        user.setVersion(ETagUtils.parseIfMatch(ifMatch));
+        return userService.particularUpdateUser(user, id).map(this::withETag);
+    }
+
+    @DeleteMapping("/{id}")
+    Mono<ResponseEntity<Void>> delete(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return userService.delete(id, ETagUtils.parseIfMatch(ifMatch))
+                .then(Mono.just(ResponseEntity.noContent().build()));
+    }
+
+    @GetMapping
+    Mono<ResponseEntity<List<UserResponseDto>>> getAllByBirthDateBetween(
+            @RequestParam(defaultValue = "10") Integer count,
+            @RequestParam(defaultValue = "0") Integer page,
+            @RequestParam(defaultValue = "id") String sortBy, @RequestParam LocalDate from,
+            @RequestParam LocalDate to, @RequestParam(required = false) String cursor) {
+        checkInputDate(from, to);
+        checkCount(count);
+        Sort sort = sortUtils.createSort(sortBy);
+        if (cursor != null) {
+            return scrollByBirthDateBetween(from, to, sort, cursor, count);
+        }
+        PageRequest pageRequest = PageRequest.of(page, count, sort);
+        return userService.getAllUsersByBirthDateBetween(from, to, pageRequest)
+                .map(users -> ResponseEntity.ok()
+                        .header(HAS_NEXT_HEADER, String.valueOf(users.hasNext()))
+                        .body(users.stream()
+                                .map(responseDtoMapper::mapToDto)
+                                .collect(Collectors.toList())));
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    Flux<UserResponseDto> exportByBirthDateBetween(@RequestParam LocalDate from,
+                                                   @RequestParam LocalDate to) {
+        checkInputDate(from, to);
+        return userService.exportUsersByBirthDateBetween(from, to)
+                .map(responseDtoMapper::mapToDto);
+    }
+
+    private Mono<ResponseEntity<List<UserResponseDto>>> scrollByBirthDateBetween(
+            LocalDate from, LocalDate to, Sort sort, String cursor, int count) {
+        return userService.scrollUsersByBirthDateBetween(from, to, sort,
+                        CursorUtils.decode(cursor, sort), count)
+                .map(users -> {
+                    HttpHeaders headers = new HttpHeaders();
+                    headers.set(HAS_NEXT_HEADER, String.valueOf(users.hasNext()));
+                    if (users.hasNext()) {
+                        headers.set(NEXT_CURSOR_HEADER,
+                                CursorUtils.encode(users.positionAt(users.size() - 1)));
+                    }
+                    return ResponseEntity.ok()
+                            .headers(headers)
+                            .body(users.stream()
+                                    .map(responseDtoMapper::mapToDto)
+                                    .collect(Collectors.toList()));
+                });
+    }
+
+    private ResponseEntity<UserResponseDto> withETag(User user) {
+        return ResponseEntity.ok()
+                .eTag(ETagUtils.toETag(user.getVersion()))
+                .body(responseDtoMapper.mapToDto(user));
+    }
+
+    private void checkInputDate(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("\"from\" date should be before \"to\" date.");
+        }
+    }
+
+    private void checkCount(int count) {
+        if (count < 1) {
+            throw new IllegalArgumentException("\"count\" should be at least 1.");
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package com.example.usermanagementapi.reactive.repository;
+
+import com.example.usermanagementapi.model.User;
+import io.r2dbc.spi.Readable;
+import io.r2dbc.spi.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Repository
+@RequiredArgsConstructor
+public class ReactiveUserRepository {
+    private static final String SELECT_USERS = "select id, email, first_name, last_name, "
+            + "birth_date, address, phone_number, version from users";
+    private static final Map<String, String> SORTABLE_COLUMNS = Map.of(
+            "id", "id",
+            "firstName", "first_name",
+            "lastName", "last_name",
+            "birthDate", "birth_date");
+    private static final String INSERT_USERS = "insert into users (email, first_name, "
+            + "last_name, birth_date, address, phone_number) values ($1, $2, $3, $4, $5, $6)";
+    private final DatabaseClient databaseClient;
+
+    public Mono<User> save(User user) {
+        return bindUser(databaseClient.sql("insert into users (email, first_name, last_name, "
+                        + "birth_date, address, phone_number) values (:email, :firstName, "
+                        + ":lastName, :birthDate, :address, :phoneNumber)"), user)
+                .filter(statement -> statement.returnGeneratedValues("id"))
+                .map(row -> row.get("id", Long.class))
+                .one()
+                .map(id -> {
+                    user.setId(id);
+                    user.setVersion(0L);
+                    return user;
+                });
+    }
+
+    @Transactional
+    public Mono<List<User>> saveAll(List<User> users) {
+        return databaseClient.inConnectionMany(connection -> {
+                    Statement statement = connection.createStatement(INSERT_USERS)
+                            .returnGeneratedValues("id");
+                    for (int i = 0; i < users.size(); i++) {
+                        if (i > 0) {
+                            statement.add();
+                        }
+                        bindUser(statement, users.get(i));
+                    }
+                    return Flux.from(statement.execute())
+                            .concatMap(result -> result.map((row, metadata) ->
+                                    row.get("id", Long.class)));
+                })
+                .collectList()
+                .map(ids -> {
+                    for (int i = 0; i < ids.size(); i++) {
+                        users.get(i).setId(ids.get(i));
+                        users.get(i).setVersion(0L);
+                    }
+                    return users;
+                });
+    }
+
+    public Mono<User> findById(Long id) {
+        return databaseClient.sql(SELECT_USERS + " where id = :id")
+                .bind("id", id)
+                .map(this::mapToUser)
+                .one();
+    }
+
+    public Mono<Long> findVersionById(Long id) {
+        return databaseClient.sql("select version from users where id = :id")
+                .bind("id", id)
+                .map(row -> row.get("version", Long.class))
+                .one();
+    }
+
+    public Mono<Boolean> existsById(Long id) {
+        return findVersionById(id).hasElement();
+    }
+
+    public Flux<User> findByBirthDateBetween(LocalDate from, LocalDate to, Sort sort,
+                                             long offset, int limit) {
+        return databaseClient.sql(SELECT_USERS + " where birth_date between :from and :to"
+                        + orderBy(sort) + " limit :limit offset :offset")
+                .bind("from", from)
+                .bind("to", to)
+                .bind("limit", limit)
+                .bind("offset", offset)
+                .map(this::mapToUser)
+                .all();
+    }
+
+    public Flux<User> findByBirthDateBetweenAfter(LocalDate from, LocalDate to, Sort sort,
+                                                  Map<String, Object> keys, int limit) {
+        String seek = keys.isEmpty() ? "" : " and (" + seekAfter(sort) + ")";
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(SELECT_USERS
+                        + " where birth_date between :from and :to" + seek + orderBy(sort)
+                        + " limit :limit")
+                .bind("from", from)
+                .bind("to", to)
+                .bind("limit", limit);
+        for (Map.Entry<String, Object> key : keys.entrySet()) {
+            spec = spec.bind("key_" + key.getKey(), key.getValue());
+        }
+        return spec.map(this::mapToUser).all();
+    }
+
+    public Flux<User> streamByBirthDateBetween(LocalDate from, LocalDate to) {
+        return databaseClient.sql(SELECT_USERS + " where birth_date between :from and :to"
+                        + " order by birth_date, id")
+                .bind("from", from)
+                .bind("to", to)
+                .map(this::mapToUser)
+                .all();
+    }
+
+    public Mono<Long> updateById(Long id, User user) {
+        return bindUser(databaseClient.sql("update users set email = :email, "
+                        + "first_name = :firstName, last_name = :lastName, "
+                        + "birth_date = :birthDate, address = :address, "
+                        + "phone_number = :phoneNumber, version = version + 1 "
+                        + "where id = :id"), user)
+                .bind("id", id)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    public Mono<Long> updateByIdAndVersion(Long id, User user, Long version) {
+        return bindUser(databaseClient.sql("update users set email = :email, "
+                        + "first_name = :firstName, last_name = :lastName, "
+                        + "birth_date = :birthDate, address = :address, "
+                        + "phone_number = :phoneNumber, version = version + 1 "
+                        + "where id = :id and version = :version"), user)
+                .bind("id", id)
+                .bind("version", version)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    public Mono<Long> deleteById(Long id) {
+        return databaseClient.sql("delete from users where id = :id")
+                .bind("id", id)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    public Mono<Long> deleteByIdAndVersion(Long id, Long version) {
+        return databaseClient.sql("delete from users where id = :id and version = :version")
+                .bind("id", id)
+                .bind("version", version)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    private DatabaseClient.GenericExecuteSpec bindUser(DatabaseClient.GenericExecuteSpec spec,
+                                                       User user) {
+        return bindNullable(bindNullable(spec
+                        .bind("email", user.getEmail())
+                        .bind("firstName", user.getFirstName())
+                        .bind("lastName", user.getLastName())
+                        .bind("birthDate", user.getBirthDate()),
+                "address", user.getAddress()), "phoneNumber", user.getPhoneNumber());
+    }
+
+    private void bindUser(Statement statement, User user) {
+        statement.bind(0, user.getEmail())
+                .bind(1, user.getFirstName())
+                .bind(2, user.getLastName())
+                .bind(3, user.getBirthDate());
+        bindNullable(statement, 4, user.getAddress());
+        bindNullable(statement, 5, user.getPhoneNumber());
+    }
+
+    private void bindNullable(Statement statement, int index, String value) {
+        if (value == null) {
+            statement.bindNull(index, String.class);
+        } else {
+            statement.bind(index, value);
+        }
+    }
+
+    private DatabaseClient.GenericExecuteSpec bindNullable(
+            DatabaseClient.GenericExecuteSpec spec, String name, String value) {
+        return value == null ? spec.bindNull(name, String.class) : spec.bind(name, value);
+    }
+
+    private String orderBy(Sort sort) {
+        return sort.stream()
+                .map(order -> column(order.getProperty()) + " " + order.getDirection())
+                .collect(Collectors.joining(", ", " order by ", ""));
+    }
+
+    private String seekAfter(Sort sort) {
+        List<String> alternatives = new ArrayList<>();
+        List<String> equalities = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            String column = column(order.getProperty());
+            String parameter = ":key_" + order.getProperty();
+            List<String> alternative = new ArrayList<>(equalities);
+            alternative.add(column + (order.isAscending() ? " > " : " < ") + parameter);
+            alternatives.add(String.join(" and ", alternative));
+            equalities.add(column + " = " + parameter);
+        }
+        return alternatives.stream()
+                .map(alternative -> "(" + alternative + ")")
+                .collect(Collectors.joining(" or "));
+    }
+
+    private String column(String property) {
+        String column = SORTABLE_COLUMNS.get(property);
+        if (column == null) {
+            throw new IllegalArgumentException("Can't sort by \"" + property + "\"");
+        }
+        return column;
+    }
+
+    private User mapToUser(Readable row) {
+        return User.builder()
+                .id(row.get("id", Long.class))
+                .email(row.get("email", String.class))
+                .firstName(row.get("first_name", String.class))
+                .lastName(row.get("last_name", String.class))
+                .birthDate(row.get("birth_date", LocalDate.class))
+                .address(row.get("address", String.class))
+                .phoneNumber(row.get("phone_number", String.class))
+                .version(row.get("version", Long.class))
+                .build();
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.usermanagementapi.reactive.service;
+
+import com.example.usermanagementapi.model.BatchResult;
+import com.example.usermanagementapi.model.User;
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveUserService {
+    Mono<User> create(User user);
+
+    Mono<List<BatchResult>> createAll(List<User> users);
+
+    Mono<User> get(Long id);
+
+    Mono<User> update(User user, Long id);
+
+    Mono<User> particularUpdateUser(User user, Long id);
+
+    Mono<Void> delete(Long id, Long version);
+
+    Mono<Slice<User>> getAllUsersByBirthDateBetween(LocalDate from, LocalDate to,
+                                                    PageRequest pageRequest);
+
+    Mono<Window<User>> scrollUsersByBirthDateBetween(LocalDate from, LocalDate to, Sort sort,
+                                                     KeysetScrollPosition position, int count);
+
+    Flux<User> exportUsersByBirthDateBetween(LocalDate from, LocalDate to);
+}
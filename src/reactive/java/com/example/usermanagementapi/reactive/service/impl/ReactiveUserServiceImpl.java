@@ -0,0 +1,221 @@
+package com.example.usermanagementapi.reactive.service.impl;
+
+import com.example.usermanagementapi.model.BatchResult;
+import com.example.usermanagementapi.model.User;
+import com.example.usermanagementapi.reactive.repository.ReactiveUserRepository;
+import com.example.usermanagementapi.reactive.service.ReactiveUserService;
+import com.example.usermanagementapi.util.CursorUtils;
+import com.example.usermanagementapi.util.EmailUtils;
+import com.example.usermanagementapi.util.UserErrorUtils;
+import com.example.usermanagementapi.util.UserUtils;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Service
+public class ReactiveUserServiceImpl implements ReactiveUserService {
+    private final int userAgeLimit;
+    private final ReactiveUserRepository userRepository;
+
+    @Autowired
+    public ReactiveUserServiceImpl(@Value("${user.age.limit}") int userAgeLimit,
+                                   ReactiveUserRepository userRepository) {
+        this.userAgeLimit = userAgeLimit;
+        this.userRepository = userRepository;
+    }
+
+    @Override
+    public Mono<User> create(User user) {
+        return checkUserAge(user).then(userRepository.save(user));
+    }
+
+    @Override
+    public Mono<List<BatchResult>> createAll(List<User> users) {
+        BatchResult[] results = new BatchResult[users.size()];
+        Set<String> batchEmails = new HashSet<>();
+        List<User> validUsers = new ArrayList<>();
+        List<Integer> validIndexes = new ArrayList<>();
+        for (int i = 0; i < users.size(); i++) {
+            User user = users.get(i);
+            if (!UserUtils.isValidUserAge(user, userAgeLimit)) {
+                results[i] = BatchResult.failure(null, HttpStatus.BAD_REQUEST,
+                        UserErrorUtils.ageLimitMessage(userAgeLimit));
+            } else if (!batchEmails.add(EmailUtils.normalize(user.getEmail()))) {
+                results[i] = BatchResult.failure(null, HttpStatus.BAD_REQUEST,
+                        UserErrorUtils.DUPLICATE_EMAIL_MESSAGE);
+            } else {
+                validUsers.add(user);
+                validIndexes.add(i);
+            }
+        }
+        return saveAllOrEachSeparately(validUsers).map(savedResults -> {
+            for (int i = 0; i < validIndexes.size(); i++) {
+                results[validIndexes.get(i)] = savedResults.get(i);
+            }
+            return Arrays.asList(results);
+        });
+    }
+
+    @Override
+    public Mono<User> get(Long id) {
+        return userRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> UserErrorUtils.userNotFound(id)));
+    }
+
+    @Override
+    @Transactional
+    public Mono<User> update(User user, Long id) {
+        Long version = user.getVersion();
+        Mono<Long> updated = version == null
+                ? userRepository.updateById(id, user)
+                : userRepository.updateByIdAndVersion(id, user, version);
+        Mono<Long> newVersion = version == null
+                ? userRepository.findVersionById(id)
+                : Mono.just(version + 1);
+        return checkUserAge(user)
+                .then(updated)
+                .flatMap(rows -> rows == 0
+                        ? userNotFoundOrModified(id, version).then(Mono.<Long>empty())
+                        : newVersion)
+                .map(currentVersion -> {
+                    user.setId(id);
+                    user.setVersion(currentVersion);
+                    return user;
+                });
+    }
+
+    @Override
+    public Mono<User> particularUpdateUser(User user, Long id) {
+        return get(id).flatMap(oldUser -> {
+            if (user.getVersion() != null && !user.getVersion().equals(oldUser.getVersion())) {
+                return Mono.error(userModified(id));
+            }
+            if (!UserUtils.updateUserFieldsIfProvided(user, oldUser)) {
+                return Mono.just(oldUser);
+            }
+            return checkUserAge(oldUser)
+                    .then(userRepository.updateByIdAndVersion(id, oldUser, oldUser.getVersion()))
+                    .flatMap(updated -> {
+                        if (updated == 0) {
+                            return Mono.error(userModified(id));
+                        }
+                        oldUser.setVersion(oldUser.getVersion() + 1);
+                        return Mono.just(oldUser);
+                    });
+        });
+    }
+
+    @Override
+    public Mono<Void> delete(Long id, Long version) {
+        Mono<Long> deleted = version == null
+                ? userRepository.deleteById(id)
+                : userRepository.deleteByIdAndVersion(id, version);
+        return deleted.flatMap(rows -> rows == 0
+                ? userNotFoundOrModified(id, version)
+                : Mono.empty());
+    }
+
+    @Override
+    public Mono<Slice<User>> getAllUsersByBirthDateBetween(LocalDate from, LocalDate to,
+                                                           PageRequest pageRequest) {
+        int count = pageRequest.getPageSize();
+        return userRepository.findByBirthDateBetween(from, to, pageRequest.getSort(),
+                        pageRequest.getOffset(), count + 1)
+                .collectList()
+                .map(users -> {
+                    boolean hasNext = users.size() > count;
+                    return new SliceImpl<>(hasNext ? users.subList(0, count) : users,
+                            pageRequest, hasNext);
+                });
+    }
+
+    @Override
+    public Mono<Window<User>> scrollUsersByBirthDateBetween(LocalDate from, LocalDate to,
+                                                            Sort sort,
+                                                            KeysetScrollPosition position,
+                                                            int count) {
+        Sort keysetSort = CursorUtils.withIdTieBreaker(sort);
+        return userRepository.findByBirthDateBetweenAfter(from, to, keysetSort,
+                        position.getKeys(), count + 1)
+                .collectList()
+                .map(users -> {
+                    boolean hasNext = users.size() > count;
+                    List<User> content = hasNext ? users.subList(0, count) : users;
+                    return Window.from(content, index -> ScrollPosition.forward(
+                            CursorUtils.keysOf(content.get(index), keysetSort)), hasNext);
+                });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Flux<User> exportUsersByBirthDateBetween(LocalDate from, LocalDate to) {
+        return userRepository.streamByBirthDateBetween(from, to);
+    }
+
+    private Mono<List<BatchResult>> saveAllOrEachSeparately(List<User> users) {
+        if (users.isEmpty()) {
+            return Mono.just(List.of());
+        }
+        return userRepository.saveAll(users)
+                .map(savedUsers -> savedUsers.stream()
+                        .map(user -> BatchResult.success(user, HttpStatus.CREATED))
+                        .toList())
+                .onErrorResume(DataIntegrityViolationException.class, e -> Flux
+                        .fromIterable(users)
+                        .concatMap(this::saveSeparately)
+                        .collectList());
+    }
+
+    private Mono<BatchResult> saveSeparately(User user) {
+        return userRepository.save(user)
+                .map(savedUser -> BatchResult.success(savedUser, HttpStatus.CREATED))
+                .onErrorResume(DataIntegrityViolationException.class, e -> Mono.just(
+                        UserErrorUtils.isDuplicateEmail(e)
+                                ? BatchResult.failure(null, HttpStatus.BAD_REQUEST,
+                                        UserErrorUtils.DUPLICATE_EMAIL_MESSAGE)
+                                : BatchResult.failure(null, HttpStatus.CONFLICT,
+                                        UserErrorUtils.DATA_INTEGRITY_MESSAGE)));
+    }
+
+    private Mono<Void> userNotFoundOrModified(Long id, Long version) {
+        if (version == null) {
+            return Mono.error(UserErrorUtils.userNotFound(id));
+        }
+        return userRepository.existsById(id)
+                .flatMap(exists -> Mono.error(exists
+                        ? userModified(id)
+                        : UserErrorUtils.userNotFound(id)));
+    }
+
+    private OptimisticLockingFailureException userModified(Long id) {
+        return new OptimisticLockingFailureException("User with id " + id
+                + " was modified by another request");
+    }
+
+    private Mono<Void> checkUserAge(User user) {
+        if (!UserUtils.isValidUserAge(user, userAgeLimit)) {
+            return Mono.error(new IllegalArgumentException(
+                    UserErrorUtils.ageLimitMessage(userAgeLimit)));
+        }
+        return Mono.empty();
+    }
+}
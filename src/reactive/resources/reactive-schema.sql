@@ -0,0 +1,16 @@
+create sequence if not exists users_seq start with 1 increment by 1;
+create table if not exists users (
+    id bigint default next value for users_seq primary key,
+    email varchar(255),
+    normalized_email varchar(255) generated always as (lower(trim(email))),
+    first_name varchar(255) not null,
+    last_name varchar(255) not null,
+    birth_date date not null,
+    address varchar(255),
+    phone_number varchar(255),
+    version bigint default 0 not null,
+    constraint uk_users_normalized_email unique (normalized_email)
+);
+create index if not exists idx_users_birth_date_id on users (birth_date, id);
+create index if not exists idx_users_last_name_first_name on users (last_name, first_name);
+create index if not exists idx_users_first_name on users (first_name);
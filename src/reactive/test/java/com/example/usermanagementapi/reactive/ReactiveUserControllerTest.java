@@ -0,0 +1,330 @@
+package com.example.usermanagementapi.reactive;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import com.example.usermanagementapi.dto.UserRequestDto;
+import com.example.usermanagementapi.dto.UserResponseDto;
+import com.example.usermanagementapi.model.User;
+import com.example.usermanagementapi.reactive.repository.ReactiveUserRepository;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+@SpringBootTest(classes = ReactiveUserManagementApiApplication.class, properties = {
+        "spring.main.web-application-type=reactive",
+        "spring.sql.init.schema-locations=classpath:reactive-schema.sql"
+})
+@AutoConfigureWebTestClient
+class ReactiveUserControllerTest {
+    private static final LocalDate CORRECT_BIRTHDAY_DATE = LocalDate.of(1995, 5, 2);
+    @Autowired
+    private WebTestClient webTestClient;
+    @Autowired
+    private DatabaseClient databaseClient;
+    @Autowired
+    private ReactiveUserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        databaseClient.sql("delete from users").then().block();
+    }
+
+    @Test
+    void create_ok() {
+        webTestClient.post().uri("/users")
+                .bodyValue(userRequestDto("vladDuncan@gmail.com", CORRECT_BIRTHDAY_DATE))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody()
+                .jsonPath("$.id").isNotEmpty()
+                .jsonPath("$.email").isEqualTo("vladDuncan@gmail.com")
+                .jsonPath("$.birthDate").isEqualTo(CORRECT_BIRTHDAY_DATE.toString());
+    }
+
+    @Test
+    void create_notValidEmail_notOk() {
+        webTestClient.post().uri("/users")
+                .bodyValue(userRequestDto("notValidEmail", CORRECT_BIRTHDAY_DATE))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody().json("{\"error_email\":\"Invalid email\"}");
+    }
+
+    @Test
+    void create_withAgeLessThanAvailable_notOk() {
+        webTestClient.post().uri("/users")
+                .bodyValue(userRequestDto("young@gmail.com", LocalDate.now().minusYears(10)))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody().json("{\"httpStatus\":\"BAD_REQUEST\",\"errorMessage\":"
+                        + "\"Can't register the user who is younger than 18 years old\"}");
+    }
+
+    @Test
+    void create_duplicateEmail_notOk() {
+        create("taken@gmail.com", CORRECT_BIRTHDAY_DATE);
+        webTestClient.post().uri("/users")
+                .bodyValue(userRequestDto("taken@gmail.com", CORRECT_BIRTHDAY_DATE))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.errorMessage").isEqualTo("A user with this email already exists.");
+    }
+
+    @Test
+    void createAll_ok() {
+        create("taken@gmail.com", CORRECT_BIRTHDAY_DATE);
+        webTestClient.post().uri("/users/batch")
+                .bodyValue(List.of(userRequestDto("first@gmail.com", CORRECT_BIRTHDAY_DATE),
+                        userRequestDto("notValidEmail", CORRECT_BIRTHDAY_DATE),
+                        userRequestDto("taken@gmail.com", CORRECT_BIRTHDAY_DATE)))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$[0].httpStatus").isEqualTo("CREATED")
+                .jsonPath("$[0].user.email").isEqualTo("first@gmail.com")
+                .jsonPath("$[1].index").isEqualTo(1)
+                .jsonPath("$[1].errorMessage").isEqualTo("Invalid email")
+                .jsonPath("$[2].errorMessage").isEqualTo("A user with this email already exists.");
+    }
+
+    @Test
+    void createAll_withoutConflicts_savedInOneBatch() {
+        webTestClient.post().uri("/users/batch")
+                .bodyValue(List.of(userRequestDto("first@gmail.com", CORRECT_BIRTHDAY_DATE),
+                        userRequestDto("second@gmail.com", CORRECT_BIRTHDAY_DATE),
+                        userRequestDto("First@gmail.com", CORRECT_BIRTHDAY_DATE),
+                        userRequestDto("young@gmail.com", LocalDate.now().minusYears(10))))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$[0].httpStatus").isEqualTo("CREATED")
+                .jsonPath("$[0].user.id").isNotEmpty()
+                .jsonPath("$[1].httpStatus").isEqualTo("CREATED")
+                .jsonPath("$[1].user.email").isEqualTo("second@gmail.com")
+                .jsonPath("$[2].errorMessage").isEqualTo("A user with this email already exists.")
+                .jsonPath("$[3].errorMessage")
+                .isEqualTo("Can't register the user who is younger than 18 years old");
+    }
+
+    @Test
+    void createAll_withoutBirthDate_itemRejected() {
+        webTestClient.post().uri("/users/batch")
+                .bodyValue(List.of(userRequestDto("first@gmail.com", CORRECT_BIRTHDAY_DATE),
+                        userRequestDto("noBirthDate@gmail.com", null)))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$[0].httpStatus").isEqualTo("CREATED")
+                .jsonPath("$[1].httpStatus").isEqualTo("BAD_REQUEST")
+                .jsonPath("$[1].errorMessage").isEqualTo("Birth date is required");
+    }
+
+    @Test
+    void get_withNotExistId_notOk() {
+        webTestClient.get().uri("/users/999")
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody().json("{\"httpStatus\":\"NOT_FOUND\","
+                        + "\"errorMessage\":\"User not found with this id: 999\"}");
+    }
+
+    @Test
+    void update_ok() {
+        UserResponseDto user = create("vladDuncan@gmail.com", CORRECT_BIRTHDAY_DATE);
+        webTestClient.put().uri("/users/" + user.getId())
+                .bodyValue(userRequestDto("newEmail@gmail.com", CORRECT_BIRTHDAY_DATE))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.email").isEqualTo("newEmail@gmail.com");
+        webTestClient.get().uri("/users/" + user.getId())
+                .exchange()
+                .expectBody().jsonPath("$.email").isEqualTo("newEmail@gmail.com");
+    }
+
+    @Test
+    void update_returnsNewVersionAsETag() {
+        UserResponseDto user = create("vladDuncan@gmail.com", CORRECT_BIRTHDAY_DATE);
+        webTestClient.get().uri("/users/" + user.getId())
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"0\"");
+        webTestClient.put().uri("/users/" + user.getId())
+                .bodyValue(userRequestDto("newEmail@gmail.com", CORRECT_BIRTHDAY_DATE))
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"1\"");
+        webTestClient.put().uri("/users/" + user.getId())
+                .header(HttpHeaders.IF_MATCH, "\"1\"")
+                .bodyValue(userRequestDto("vladDuncan@gmail.com", CORRECT_BIRTHDAY_DATE))
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"2\"");
+    }
+
+    @Test
+    void update_staleIfMatch_preconditionFailed() {
+        UserResponseDto user = create("vladDuncan@gmail.com", CORRECT_BIRTHDAY_DATE);
+        webTestClient.put().uri("/users/" + user.getId())
+                .header(HttpHeaders.IF_MATCH, "\"5\"")
+                .bodyValue(userRequestDto("newEmail@gmail.com", CORRECT_BIRTHDAY_DATE))
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.PRECONDITION_FAILED);
+        webTestClient.patch().uri("/users/" + user.getId())
+                .header(HttpHeaders.IF_MATCH, "\"5\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"address\":\"Kyiv\"}")
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.PRECONDITION_FAILED);
+        webTestClient.delete().uri("/users/" + user.getId())
+                .header(HttpHeaders.IF_MATCH, "\"5\"")
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.PRECONDITION_FAILED);
+        webTestClient.get().uri("/users/" + user.getId())
+                .exchange()
+                .expectBody().jsonPath("$.email").isEqualTo("vladDuncan@gmail.com");
+    }
+
+    @Test
+    void update_withNotExistId_notOk() {
+        webTestClient.put().uri("/users/999")
+                .bodyValue(userRequestDto("newEmail@gmail.com", CORRECT_BIRTHDAY_DATE))
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void particularUpdateUser_ok() {
+        UserResponseDto user = create("vladDuncan@gmail.com", CORRECT_BIRTHDAY_DATE);
+        webTestClient.patch().uri("/users/" + user.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"address\":\"Kyiv\"}")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.address").isEqualTo("Kyiv")
+                .jsonPath("$.email").isEqualTo("vladDuncan@gmail.com");
+    }
+
+    @Test
+    void updateByIdAndVersion_staleVersion_notUpdated() {
+        UserResponseDto created = create("vladDuncan@gmail.com", CORRECT_BIRTHDAY_DATE);
+        User user = userRepository.findById(created.getId()).block();
+        assertNotNull(user);
+        user.setAddress("Kyiv");
+        assertEquals(1L, userRepository.updateByIdAndVersion(user.getId(), user,
+                user.getVersion()).block());
+        assertEquals(0L, userRepository.updateByIdAndVersion(user.getId(), user,
+                user.getVersion()).block());
+        assertEquals(1L, userRepository.findById(user.getId()).block().getVersion());
+    }
+
+    @Test
+    void delete_ok() {
+        UserResponseDto user = create("vladDuncan@gmail.com", CORRECT_BIRTHDAY_DATE);
+        webTestClient.delete().uri("/users/" + user.getId())
+                .exchange()
+                .expectStatus().isNoContent();
+        webTestClient.delete().uri("/users/" + user.getId())
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void getAllByBirthDateBetween_ok() {
+        create("first@gmail.com", LocalDate.of(1991, 1, 1));
+        create("second@gmail.com", LocalDate.of(1992, 1, 1));
+        create("outOfRange@gmail.com", LocalDate.of(1980, 1, 1));
+        webTestClient.get().uri("/users?from=1990-01-01&to=2000-01-01&sortBy=birthDate:ASC")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("X-Has-Next", "false")
+                .expectBody()
+                .jsonPath("$.size()").isEqualTo(2)
+                .jsonPath("$[0].email").isEqualTo("first@gmail.com")
+                .jsonPath("$[1].email").isEqualTo("second@gmail.com");
+    }
+
+    @Test
+    void getAllByBirthDateBetween_inputDateIncorrect_notOk() {
+        webTestClient.get().uri("/users?from=2001-01-01&to=1999-01-01")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.errorMessage")
+                .isEqualTo("\"from\" date should be before \"to\" date.");
+    }
+
+    @Test
+    void getAllByBirthDateBetween_withCursor_ok() {
+        create("first@gmail.com", LocalDate.of(1991, 1, 1));
+        create("second@gmail.com", LocalDate.of(1992, 1, 1));
+        create("third@gmail.com", LocalDate.of(1993, 1, 1));
+        String uri = "/users?from=1990-01-01&to=2000-01-01&sortBy=birthDate:ASC&count=2&cursor=";
+        String cursor = webTestClient.get().uri(uri)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("X-Has-Next", "true")
+                .expectBody()
+                .jsonPath("$.size()").isEqualTo(2)
+                .returnResult()
+                .getResponseHeaders()
+                .getFirst("X-Next-Cursor");
+        assertNotNull(cursor);
+        webTestClient.get().uri(uri + cursor)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("X-Has-Next", "false")
+                .expectHeader().doesNotExist("X-Next-Cursor")
+                .expectBody()
+                .jsonPath("$.size()").isEqualTo(1)
+                .jsonPath("$[0].email").isEqualTo("third@gmail.com");
+    }
+
+    @Test
+    void exportByBirthDateBetween_ok() {
+        create("first@gmail.com", LocalDate.of(1991, 1, 1));
+        create("second@gmail.com", LocalDate.of(1992, 1, 1));
+        List<UserResponseDto> users = webTestClient.get()
+                .uri("/users/export?from=1990-01-01&to=2000-01-01")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(UserResponseDto.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+        assertNotNull(users);
+        assertEquals(2, users.size());
+        assertEquals("first@gmail.com", users.get(0).getEmail());
+    }
+
+    private UserResponseDto create(String email, LocalDate birthDate) {
+        return webTestClient.post().uri("/users")
+                .bodyValue(userRequestDto(email, birthDate))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(UserResponseDto.class)
+                .returnResult()
+                .getResponseBody();
+    }
+
+    private UserRequestDto userRequestDto(String email, LocalDate birthDate) {
+        return UserRequestDto.builder()
+                .email(email)
+                .firstName("Vlad")
+                .lastName("Duncan")
+                .birthDate(birthDate)
+                .build();
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.usermanagementapi.reactive;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.usermanagementapi.UserManagementApiApplication;
+import com.example.usermanagementapi.load.LoadGenerator;
+import com.example.usermanagementapi.load.LoadResult;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+@Slf4j
+@Tag("load")
+class ReactiveVsMvcLoadTest {
+    private static final int USERS = 500;
+    private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 2000);
+    private static final Duration WARMUP = Duration.ofSeconds(
+            Long.getLong("load.warmup-seconds", 5));
+    private static final Duration DURATION = Duration.ofSeconds(
+            Long.getLong("load.duration-seconds", 20));
+
+    @Test
+    void getById_mvcVsReactive() throws Exception {
+        LoadResult mvc = run(new SpringApplicationBuilder(UserManagementApiApplication.class)
+                .web(WebApplicationType.SERVLET)
+                .properties("spring.cache.type=none",
+                        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+                        "spring.jpa.properties.hibernate.cache.use_query_cache=false"));
+        LoadResult reactive = run(ReactiveUserManagementApiApplication.application());
+        log.info("GET /users/{id}, {} clients", CONCURRENCY);
+        log.info("MVC + JPA:       {}", mvc);
+        log.info("WebFlux + R2DBC: {}", reactive);
+        assertServedWithoutErrors(mvc);
+        assertServedWithoutErrors(reactive);
+    }
+
+    private void assertServedWithoutErrors(LoadResult result) {
+        assertTrue(result.getRequests() > 0, result::toString);
+        assertEquals(0, result.getErrors(), result::toString);
+    }
+
+    private LoadResult run(SpringApplicationBuilder application) throws Exception {
+        try (ConfigurableApplicationContext context = application
+                .properties("server.port=0")
+                .run()) {
+            String baseUrl = "http://localhost:"
+                    + context.getEnvironment().getProperty("local.server.port") + "/users";
+            LoadGenerator.seed(baseUrl, USERS);
+            return new LoadGenerator(CONCURRENCY, WARMUP, DURATION).run(() -> HttpRequest
+                    .newBuilder(URI.create(baseUrl + "/"
+                            + ThreadLocalRandom.current().nextInt(1, USERS + 1)))
+                    .build());
+        }
+    }
+}
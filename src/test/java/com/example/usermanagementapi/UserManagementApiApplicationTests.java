@@ -1,11 +1,25 @@
 package com.example.usermanagementapi;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
 @SpringBootTest
 class UserManagementApiApplicationTests {
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     @Test
     void contextLoads() {
     }
+
+    @Test
+    void hibernateStatistics_disabledWithoutDiagnostics() {
+        assertFalse(entityManagerFactory.unwrap(SessionFactory.class).getStatistics()
+                .isStatisticsEnabled());
+    }
 }
@@ -0,0 +1,118 @@
+package com.example.usermanagementapi.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.example.usermanagementapi.dto.ImportJobDto;
+import com.example.usermanagementapi.importer.ImportFormat;
+import com.example.usermanagementapi.importer.ImportJob;
+import com.example.usermanagementapi.importer.ImportJobStatus;
+import com.example.usermanagementapi.mapper.ImportJobDtoMapper;
+import com.example.usermanagementapi.metrics.UserMetrics;
+import com.example.usermanagementapi.service.ImportService;
+import jakarta.persistence.EntityNotFoundException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+
+@WebMvcTest(ImportController.class)
+@AutoConfigureMockMvc(addFilters = false)
+class ImportControllerTest {
+    private static final String JOB_ID = "3f2a7c1e";
+    private static final String UNSUPPORTED_FORMAT_MESSAGE =
+            "Unsupported import format, use one of: csv, ndjson.";
+    @TempDir
+    private Path directory;
+    private ImportJob job;
+    @Autowired
+    private MockMvc mvc;
+    @MockBean
+    private ImportService importService;
+    @MockBean
+    private ImportJobDtoMapper importJobDtoMapper;
+    @MockBean
+    private UserMetrics userMetrics;
+
+    @BeforeEach
+    void setUp() {
+        job = new ImportJob(JOB_ID, ImportFormat.CSV, directory.resolve(JOB_ID + ".csv"),
+                directory.resolve(JOB_ID + "-rejected.ndjson"));
+        when(importJobDtoMapper.mapToDto(job)).thenReturn(ImportJobDto.builder()
+                .id(JOB_ID)
+                .status(ImportJobStatus.QUEUED)
+                .format(ImportFormat.CSV).build());
+    }
+
+    @Test
+    void submit_accepted() throws Exception {
+        when(importService.submit(any(), eq("csv"))).thenReturn(job);
+        mvc.perform(multipart("/imports")
+                        .file(new MockMultipartFile("file", "users.csv", "text/csv",
+                                "email,firstName,lastName,birthDate".getBytes(
+                                        StandardCharsets.UTF_8)))
+                        .param("format", "csv"))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/imports/" + JOB_ID))
+                .andExpect(jsonPath("$.id").value(JOB_ID))
+                .andExpect(jsonPath("$.status").value("QUEUED"));
+    }
+
+    @Test
+    void submit_unsupportedFormat_notOk() throws Exception {
+        when(importService.submit(any(), eq("xml")))
+                .thenThrow(new IllegalArgumentException(UNSUPPORTED_FORMAT_MESSAGE));
+        mvc.perform(multipart("/imports")
+                        .file(new MockMultipartFile("file", "users.xml", null, new byte[0]))
+                        .param("format", "xml"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorMessage").value(UNSUPPORTED_FORMAT_MESSAGE));
+    }
+
+    @Test
+    void get_ok() throws Exception {
+        when(importService.get(JOB_ID)).thenReturn(job);
+        mvc.perform(get("/imports/{id}", JOB_ID))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(JOB_ID))
+                .andExpect(jsonPath("$.format").value("CSV"));
+    }
+
+    @Test
+    void get_unknownJob_notFound() throws Exception {
+        when(importService.get("unknown")).thenThrow(
+                new EntityNotFoundException("Import job not found with this id: unknown"));
+        mvc.perform(get("/imports/{id}", "unknown"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.errorMessage")
+                        .value("Import job not found with this id: unknown"));
+    }
+
+    @Test
+    void getRejectedRows_ok() throws Exception {
+        final String rejectedRow = "{\"line\":2,\"row\":\"null\","
+                + "\"errorMessage\":\"Row must be a JSON object\"}\n";
+        Files.writeString(job.getRejectedRowsFile(), rejectedRow);
+        when(importService.get(JOB_ID)).thenReturn(job);
+        mvc.perform(get("/imports/{id}/rejected", JOB_ID))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(rejectedRow));
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.usermanagementapi.controller;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.example.usermanagementapi.diagnostics.SlowQueryLoggingStatistics;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.spi.StatisticsImplementor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest(properties = {
+        "user.diagnostics.enabled=true",
+        "user.diagnostics.slow-query-threshold=100ms"
+})
+@AutoConfigureMockMvc
+@ExtendWith(OutputCaptureExtension.class)
+class QueryDiagnosticsControllerTest {
+    private static final String SLOW_QUERY = "select u from User u where u.lastName = 'Duncan'";
+    private static final String FAST_QUERY = "select u from User u where u.email = 'a@b.com'";
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    private StatisticsImplementor statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = (StatisticsImplementor) entityManagerFactory.unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void statistics_enabledWithSlowQueryLogging() {
+        assertTrue(statistics.isStatisticsEnabled());
+        assertInstanceOf(SlowQueryLoggingStatistics.class, statistics);
+    }
+
+    @Test
+    void queryExecuted_atThreshold_loggedWithLiteralsRedacted(CapturedOutput output) {
+        statistics.queryExecuted(SLOW_QUERY, 1, 100);
+        assertTrue(output.getOut().contains("Slow query: 100 ms, 1 rows: "
+                + "select u from User u where u.lastName = '?'"));
+        assertFalse(output.getOut().contains("'Duncan'"));
+    }
+
+    @Test
+    void queryExecuted_belowThreshold_notLogged(CapturedOutput output) {
+        statistics.queryExecuted(SLOW_QUERY, 1, 99);
+        assertFalse(output.getOut().contains("Slow query: 99 ms"));
+    }
+
+    @Test
+    void getSlowestQueries_ok() throws Exception {
+        statistics.queryExecuted(FAST_QUERY, 1, 5);
+        statistics.queryExecuted(SLOW_QUERY, 1, 150);
+        statistics.queryExecuted(SLOW_QUERY, 3, 50);
+        mockMvc.perform(get("/admin/queries").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].query")
+                        .value("select u from User u where u.lastName = '?'"))
+                .andExpect(jsonPath("$[0].executionCount").value(2))
+                .andExpect(jsonPath("$[0].executionRowCount").value(4))
+                .andExpect(jsonPath("$[0].executionMaxTime").value(150))
+                .andExpect(jsonPath("$[0].executionTotalTime").value(200));
+    }
+}
@@ -1,27 +1,49 @@
 package com.example.usermanagementapi.controller;
 
 import static org.hamcrest.Matchers.containsString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.example.usermanagementapi.dto.AgeBucketDto;
+import com.example.usermanagementapi.dto.BatchItemResponseDto;
+import com.example.usermanagementapi.dto.UserFilterDto;
+import com.example.usermanagementapi.dto.UserPatchRequestDto;
 import com.example.usermanagementapi.dto.UserRequestDto;
 import com.example.usermanagementapi.dto.UserResponseDto;
+import com.example.usermanagementapi.dto.UserStatsDto;
+import com.example.usermanagementapi.index.IndexNotReadyException;
+import com.example.usermanagementapi.mapper.BatchItemResponseDtoMapper;
 import com.example.usermanagementapi.mapper.UserRequestDtoMapper;
 import com.example.usermanagementapi.mapper.UserResponseDtoMapper;
+import com.example.usermanagementapi.metrics.UserMetrics;
+import com.example.usermanagementapi.model.BatchResult;
 import com.example.usermanagementapi.model.User;
+import com.example.usermanagementapi.service.UserResponseService;
 import com.example.usermanagementapi.service.UserService;
+import com.example.usermanagementapi.service.UserStatsService;
+import com.example.usermanagementapi.util.CursorUtils;
 import com.example.usermanagementapi.util.SortUtils;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.persistence.EntityNotFoundException;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -30,13 +52,24 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 @WebMvcTest(UserController.class)
 @AutoConfigureMockMvc(addFilters = false)
 @ExtendWith(MockitoExtension.class)
+@Import(SortUtils.class)
 public class UserControllerTest {
     private static final LocalDate CORRECT_BIRTHDAY_DATE = LocalDate.of(1995, 5, 2);
     private UserResponseDto userResponseDto;
@@ -46,12 +79,22 @@ public class UserControllerTest {
     private MockMvc mvc;
     @Autowired
     private ObjectMapper objectMapper;
+    @Autowired
+    private SortUtils sortUtils;
     @MockBean
     private UserService userService;
     @MockBean
+    private UserResponseService userResponseService;
+    @MockBean
+    private UserStatsService userStatsService;
+    @MockBean
     private UserRequestDtoMapper requestDtoMapper;
     @MockBean
     private UserResponseDtoMapper responseDtoMapper;
+    @MockBean
+    private BatchItemResponseDtoMapper batchItemResponseDtoMapper;
+    @MockBean
+    private UserMetrics userMetrics;
 
     @BeforeEach
     public void setUp() {
@@ -93,6 +136,34 @@ public class UserControllerTest {
                         .toString()));
     }
 
+    @Test
+    public void create_duplicateEmail_notOk() throws Exception {
+        when(requestDtoMapper.mapToModel(userRequestDto)).thenReturn(user);
+        when(userService.create(user)).thenThrow(new DataIntegrityViolationException(
+                "could not execute statement; constraint [PUBLIC.UK_USERS_NORMALIZED_EMAIL]"));
+        mvc.perform(post("/users")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(userRequestDto)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorMessage")
+                        .value("A user with this email already exists."));
+        verify(userMetrics).duplicateEmailRejected();
+    }
+
+    @Test
+    public void create_otherConstraintViolated_conflict() throws Exception {
+        when(requestDtoMapper.mapToModel(userRequestDto)).thenReturn(user);
+        when(userService.create(user)).thenThrow(new DataIntegrityViolationException(
+                "could not execute statement; NULL not allowed for column \"FIRST_NAME\""));
+        mvc.perform(post("/users")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(userRequestDto)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.errorMessage")
+                        .value("The user conflicts with the data already stored."));
+        verifyNoInteractions(userMetrics);
+    }
+
     @Test
     public void create_notValidInputDto_notOk() throws Exception {
         userRequestDto.setFirstName("");
@@ -177,20 +248,182 @@ public class UserControllerTest {
     @Test
     public void create_validPhoneNumber_ok() throws Exception {
         userRequestDto.setPhoneNumber("380961276845");
+        when(requestDtoMapper.mapToModel(userRequestDto)).thenReturn(user);
+        when(userService.create(user)).thenReturn(user);
         mvc.perform(post("/users")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(userRequestDto)))
                 .andExpect(status().isCreated());
     }
 
+    @Test
+    public void createAll_ok() throws Exception {
+        UserRequestDto invalidRequestDto = UserRequestDto.builder()
+                .firstName("Invalid")
+                .lastName("Email")
+                .email("notValidEmail")
+                .birthDate(CORRECT_BIRTHDAY_DATE).build();
+        BatchResult result = BatchResult.success(user, HttpStatus.CREATED);
+        when(requestDtoMapper.mapToModel(userRequestDto)).thenReturn(user);
+        when(userService.createAll(List.of(user))).thenReturn(List.of(result));
+        when(batchItemResponseDtoMapper.mapToDto(result)).thenReturn(BatchItemResponseDto.builder()
+                .id(user.getId())
+                .httpStatus(HttpStatus.CREATED)
+                .user(userResponseDto).build());
+        mvc.perform(post("/users/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(invalidRequestDto,
+                                userRequestDto))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size()").value(2))
+                .andExpect(jsonPath("$[0].index").value(0))
+                .andExpect(jsonPath("$[0].httpStatus").value("BAD_REQUEST"))
+                .andExpect(jsonPath("$[0].errorMessage").value("Invalid email"))
+                .andExpect(jsonPath("$[1].index").value(1))
+                .andExpect(jsonPath("$[1].httpStatus").value("CREATED"))
+                .andExpect(jsonPath("$[1].user.id").value(userResponseDto.getId()));
+    }
+
+    @Test
+    public void createAll_withoutBirthDate_itemRejected() throws Exception {
+        UserRequestDto withoutBirthDate = UserRequestDto.builder()
+                .firstName("Vlad")
+                .lastName("Duncan")
+                .email("noBirthDate@gmail.com").build();
+        mvc.perform(post("/users/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(withoutBirthDate))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size()").value(1))
+                .andExpect(jsonPath("$[0].index").value(0))
+                .andExpect(jsonPath("$[0].httpStatus").value("BAD_REQUEST"))
+                .andExpect(jsonPath("$[0].errorMessage").value("Birth date is required"));
+    }
+
+    @Test
+    public void search_ok() throws Exception {
+        when(userResponseService.search("vlad", PageRequest.of(1, 5)))
+                .thenReturn(new SliceImpl<>(List.of(userResponseDto), PageRequest.of(1, 5), true));
+        mvc.perform(get("/users/search")
+                        .param("q", "vlad")
+                        .param("page", "1")
+                        .param("count", "5"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(UserController.HAS_NEXT_HEADER, "true"))
+                .andExpect(jsonPath("$.size()").value(1))
+                .andExpect(jsonPath("$[0].id").value(userResponseDto.getId()));
+    }
+
+    @Test
+    public void getAllByFilter_ok() throws Exception {
+        final UserFilterDto filter = UserFilterDto.builder()
+                .birthDateFrom(LocalDate.of(1990, 1, 1))
+                .lastNamePrefix("Dun").build();
+        final PageRequest pageRequest = PageRequest.of(1, 5, sortUtils.createSort("lastName"));
+        when(userService.getAllUsersByFilter(filter, pageRequest))
+                .thenReturn(Window.from(List.of(user), ScrollPosition::offset, false));
+        when(responseDtoMapper.mapToDto(user)).thenReturn(userResponseDto);
+        mvc.perform(get("/users/filter")
+                        .param("birthDateFrom", "1990-01-01")
+                        .param("lastNamePrefix", "Dun")
+                        .param("sortBy", "lastName")
+                        .param("page", "1")
+                        .param("count", "5"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(UserController.HAS_NEXT_HEADER, "false"))
+                .andExpect(jsonPath("$.size()").value(1))
+                .andExpect(jsonPath("$[0].id").value(userResponseDto.getId()));
+    }
+
+    @Test
+    public void search_indexWarmingUp_serviceUnavailable() throws Exception {
+        when(userResponseService.search("vlad", PageRequest.of(0, 10))).thenThrow(
+                new IndexNotReadyException("Search index is warming up, retry later."));
+        mvc.perform(get("/users/search").param("q", "vlad"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "5"))
+                .andExpect(jsonPath("$.errorMessage")
+                        .value("Search index is warming up, retry later."));
+    }
+
+    @Test
+    public void getStats_ok() throws Exception {
+        when(userStatsService.getStats()).thenReturn(UserStatsDto.builder()
+                .totalUsers(3)
+                .ageLimit(18)
+                .ageBuckets(List.of(new AgeBucketDto(18, 27, 3)))
+                .birthYears(Map.of(1995, 3L)).build());
+        mvc.perform(get("/users/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalUsers").value(3))
+                .andExpect(jsonPath("$.ageBuckets[0].fromAge").value(18))
+                .andExpect(jsonPath("$.ageBuckets[0].count").value(3))
+                .andExpect(jsonPath("$.birthYears.1995").value(3));
+    }
+
+    @Test
+    public void partiallyUpdateAll_ok() throws Exception {
+        BatchResult updated = BatchResult.success(user, HttpStatus.OK);
+        BatchResult missing = BatchResult.failure(2L, HttpStatus.NOT_FOUND,
+                "User not found with this id: 2");
+        when(requestDtoMapper.mapToModel(userRequestDto)).thenReturn(user);
+        when(userService.particularUpdateAll(any())).thenReturn(List.of(updated, missing));
+        when(batchItemResponseDtoMapper.mapToDto(updated)).thenReturn(BatchItemResponseDto.builder()
+                .id(user.getId())
+                .httpStatus(HttpStatus.OK)
+                .user(userResponseDto).build());
+        when(batchItemResponseDtoMapper.mapToDto(missing)).thenReturn(BatchItemResponseDto.builder()
+                .id(2L)
+                .httpStatus(HttpStatus.NOT_FOUND)
+                .errorMessage(missing.getErrorMessage()).build());
+        mvc.perform(patch("/users/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(
+                                new UserPatchRequestDto(1L, userRequestDto),
+                                new UserPatchRequestDto(2L, null)))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size()").value(2))
+                .andExpect(jsonPath("$[0].index").value(0))
+                .andExpect(jsonPath("$[0].httpStatus").value("OK"))
+                .andExpect(jsonPath("$[0].user.id").value(userResponseDto.getId()))
+                .andExpect(jsonPath("$[1].index").value(1))
+                .andExpect(jsonPath("$[1].httpStatus").value("NOT_FOUND"))
+                .andExpect(jsonPath("$[1].errorMessage").value(missing.getErrorMessage()));
+    }
+
+    @Test
+    public void deleteAll_ok() throws Exception {
+        BatchResult deleted = BatchResult.success(1L, HttpStatus.NO_CONTENT);
+        BatchResult missing = BatchResult.failure(2L, HttpStatus.NOT_FOUND,
+                "User not found with this id: 2");
+        when(userService.deleteAll(List.of(1L, 2L))).thenReturn(List.of(deleted, missing));
+        when(batchItemResponseDtoMapper.mapToDto(deleted)).thenReturn(BatchItemResponseDto.builder()
+                .id(1L)
+                .httpStatus(HttpStatus.NO_CONTENT).build());
+        when(batchItemResponseDtoMapper.mapToDto(missing)).thenReturn(BatchItemResponseDto.builder()
+                .id(2L)
+                .httpStatus(HttpStatus.NOT_FOUND)
+                .errorMessage(missing.getErrorMessage()).build());
+        mvc.perform(delete("/users")
+                        .param("ids", "1", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size()").value(2))
+                .andExpect(jsonPath("$[0].id").value(1))
+                .andExpect(jsonPath("$[0].httpStatus").value("NO_CONTENT"))
+                .andExpect(jsonPath("$[1].index").value(1))
+                .andExpect(jsonPath("$[1].httpStatus").value("NOT_FOUND"));
+    }
+
     @Test
     public void get_ok() throws Exception {
         Long id = 1L;
-        when(userService.get(id)).thenReturn(user);
-        when(responseDtoMapper.mapToDto(user)).thenReturn(userResponseDto);
+        userResponseDto.setVersion(3L);
+        when(userResponseService.get(id)).thenReturn(userResponseDto);
         mvc.perform(get("/users/1")
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3\""))
+                .andExpect(jsonPath("$.version").doesNotExist())
                 .andExpect(jsonPath("$.id").value(userResponseDto.getId()))
                 .andExpect(jsonPath("$.firstName").value(userResponseDto.getFirstName()))
                 .andExpect(jsonPath("$.lastName").value(userResponseDto.getLastName()))
@@ -199,10 +432,56 @@ public class UserControllerTest {
                         .toString()));
     }
 
+    @Test
+    public void get_ifNoneMatchCurrentVersion_notModified() throws Exception {
+        userResponseDto.setVersion(3L);
+        when(userResponseService.get(1L)).thenReturn(userResponseDto);
+        mvc.perform(get("/users/1")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3\""))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    public void get_ifNoneMatchOldVersion_ok() throws Exception {
+        userResponseDto.setVersion(4L);
+        when(userResponseService.get(1L)).thenReturn(userResponseDto);
+        mvc.perform(get("/users/1")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"3\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"4\""))
+                .andExpect(jsonPath("$.id").value(userResponseDto.getId()));
+    }
+
+    @Test
+    public void getByEmail_ok() throws Exception {
+        userResponseDto.setVersion(2L);
+        when(userResponseService.getByEmail(user.getEmail())).thenReturn(userResponseDto);
+        mvc.perform(get("/users/by-email")
+                        .param("email", user.getEmail()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"2\""))
+                .andExpect(jsonPath("$.id").value(userResponseDto.getId()))
+                .andExpect(jsonPath("$.email").value(userResponseDto.getEmail()));
+    }
+
+    @Test
+    public void getByEmail_notExistEmail_notOk() throws Exception {
+        when(userResponseService.getByEmail("victorDon@gmail.com"))
+                .thenThrow(new EntityNotFoundException(
+                        "User not found with this email: victorDon@gmail.com"));
+        mvc.perform(get("/users/by-email")
+                        .param("email", "victorDon@gmail.com"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.errorMessage")
+                        .value("User not found with this email: victorDon@gmail.com"));
+    }
+
     @Test
     public void get_notNotExistUserByIndex_notOk() throws Exception {
         Long id = 888L;
-        when(userService.get(id))
+        when(userResponseService.get(id))
                 .thenThrow(EntityNotFoundException.class);
         mvc.perform(get("/users/888")
                         .contentType(MediaType.APPLICATION_JSON))
@@ -334,6 +613,77 @@ public class UserControllerTest {
                         + " past\"}"));
     }
 
+    @Test
+    public void update_ifMatch_ok() throws Exception {
+        final Long id = 1L;
+        when(requestDtoMapper.mapToModel(userRequestDto)).thenReturn(user);
+        when(userService.update(user, id)).thenAnswer(invocation -> {
+            user.setVersion(user.getVersion() + 1);
+            return user;
+        });
+        when(responseDtoMapper.mapToDto(user)).thenReturn(userResponseDto);
+        mvc.perform(put("/users/1")
+                        .header(HttpHeaders.IF_MATCH, "\"3\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(userRequestDto)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"4\""));
+    }
+
+    @Test
+    public void update_staleIfMatch_notOk() throws Exception {
+        final Long id = 1L;
+        when(requestDtoMapper.mapToModel(userRequestDto)).thenReturn(user);
+        when(userService.update(user, id)).thenThrow(OptimisticLockingFailureException.class);
+        mvc.perform(put("/users/1")
+                        .header(HttpHeaders.IF_MATCH, "\"2\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(userRequestDto)))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.errorMessage")
+                        .value("The user has been modified since it was read."));
+    }
+
+    @Test
+    public void update_withoutIfMatch_returnsNewETag() throws Exception {
+        final Long id = 1L;
+        user.setVersion(4L);
+        when(requestDtoMapper.mapToModel(userRequestDto)).thenReturn(user);
+        when(userService.update(user, id)).thenReturn(user);
+        when(responseDtoMapper.mapToDto(user)).thenReturn(userResponseDto);
+        mvc.perform(put("/users/1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(userRequestDto)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"4\""));
+    }
+
+    @Test
+    public void partiallyUpdateUser_concurrentModificationWithoutIfMatch_conflict()
+            throws Exception {
+        final Long id = 1L;
+        when(requestDtoMapper.mapToModel(userRequestDto)).thenReturn(user);
+        when(userService.particularUpdateUser(user, id))
+                .thenThrow(OptimisticLockingFailureException.class);
+        mvc.perform(patch("/users/1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(userRequestDto)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.errorMessage")
+                        .value("The user has been modified since it was read."));
+    }
+
+    @Test
+    public void partiallyUpdateUser_weakIfMatch_notOk() throws Exception {
+        when(requestDtoMapper.mapToModel(userRequestDto)).thenReturn(user);
+        mvc.perform(patch("/users/1")
+                        .header(HttpHeaders.IF_MATCH, "W/\"3\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(userRequestDto)))
+                .andExpect(status().isPreconditionFailed());
+        verifyNoInteractions(userService);
+    }
+
     @Test
     public void update_notValidInputDto_notOk() throws Exception {
         userRequestDto.setFirstName("");
@@ -364,7 +714,7 @@ public class UserControllerTest {
     @Test
     public void delete_ok() throws Exception {
         Long id = 1L;
-        userService.delete(id);
+        userService.delete(id, null);
         mvc.perform(delete("/users/1")
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isNoContent());
@@ -377,7 +727,7 @@ public class UserControllerTest {
         int page = 0;
         int count = 10;
         final String sortBy = "id";
-        final PageRequest pageRequest = PageRequest.of(page, count, SortUtils.createSort(sortBy));
+        final PageRequest pageRequest = PageRequest.of(page, count, sortUtils.createSort(sortBy));
 
         User secondUser = User.builder()
                 .id(2L)
@@ -389,7 +739,6 @@ public class UserControllerTest {
                 .birthDate(LocalDate.of(2001, 2, 3))
                 .build();
 
-        final List<User> users = List.of(secondUser, thirdUser);
         UserResponseDto userResponseDtoSecond = new UserResponseDto();
         userResponseDtoSecond.setId(secondUser.getId());
         userResponseDtoSecond.setBirthDate(secondUser.getBirthDate());
@@ -400,9 +749,8 @@ public class UserControllerTest {
 
         List<UserResponseDto> userResponseDtos = List.of(userResponseDtoSecond,
                 userResponseDtoThird);
-        when(userService.getAllUsersByBirthDateBetween(from, to, pageRequest)).thenReturn(users);
-        when(responseDtoMapper.mapToDto(users.get(0))).thenReturn(userResponseDtos.get(0));
-        when(responseDtoMapper.mapToDto(users.get(1))).thenReturn(userResponseDtos.get(1));
+        when(userResponseService.getAllByBirthDateBetween(from, to, pageRequest))
+                .thenReturn(new SliceImpl<>(userResponseDtos, pageRequest, false));
         mvc.perform(get("/users")
                         .param("from", from.toString())
                         .param("to", to.toString())
@@ -410,12 +758,34 @@ public class UserControllerTest {
                         .param("page", "0")
                         .param("sortBy", "id"))
                 .andExpect(status().isOk())
+                .andExpect(header().string(UserController.HAS_NEXT_HEADER, "false"))
+                .andExpect(header().doesNotExist(UserController.TOTAL_COUNT_HEADER))
                 .andExpect(jsonPath("$.size()").value(userResponseDtos.size()))
                 .andExpect(jsonPath("$[0].id").value(userResponseDtos.get(0).getId()))
                 .andExpect(jsonPath("$[0].birthDate").value(userResponseDtos.get(0)
                         .getBirthDate().toString()));
     }
 
+    @Test
+    public void getAllByBirthDateBetween_withTotalCount_ok() throws Exception {
+        final LocalDate from = LocalDate.of(1990, 1, 1);
+        final LocalDate to = LocalDate.of(2000, 1, 1);
+        final PageRequest pageRequest = PageRequest.of(0, 1, sortUtils.createSort("id"));
+        when(userResponseService.getAllByBirthDateBetween(from, to, pageRequest))
+                .thenReturn(new SliceImpl<>(List.of(userResponseDto), pageRequest, true));
+        when(userResponseService.countByBirthDateBetween(from, to)).thenReturn(3L);
+        mvc.perform(get("/users")
+                        .param("from", from.toString())
+                        .param("to", to.toString())
+                        .param("count", "1")
+                        .param("withTotalCount", "true"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(UserController.HAS_NEXT_HEADER, "true"))
+                .andExpect(header().string(UserController.TOTAL_COUNT_HEADER, "3"))
+                .andExpect(jsonPath("$.size()").value(1))
+                .andExpect(jsonPath("$[0].id").value(userResponseDto.getId()));
+    }
+
     @Test
     public void getAllByBirthDateBetween_inputDateIncorrect_ok() throws Exception {
         final LocalDate from = LocalDate.of(2001, 1, 1);
@@ -423,9 +793,9 @@ public class UserControllerTest {
         int page = 0;
         int count = 10;
         final String sortBy = "id";
-        final PageRequest pageRequest = PageRequest.of(page, count, SortUtils.createSort(sortBy));
+        final PageRequest pageRequest = PageRequest.of(page, count, sortUtils.createSort(sortBy));
 
-        when(userService.getAllUsersByBirthDateBetween(from, to, pageRequest))
+        when(userResponseService.getAllByBirthDateBetween(from, to, pageRequest))
                 .thenThrow(IllegalArgumentException.class);
         mvc.perform(get("/users")
                         .param("from", from.toString())
@@ -438,4 +808,91 @@ public class UserControllerTest {
                         + ",\"errorMessage\":\"\\\"from\\\" date should be before "
                         + "\\\"to\\\" date.\"}")));
     }
+
+    @Test
+    public void getAllByBirthDateBetween_withCursor_ok() throws Exception {
+        final LocalDate from = LocalDate.of(1990, 1, 1);
+        final LocalDate to = LocalDate.of(2000, 1, 1);
+        final Sort sort = sortUtils.createSort("birthDate:ASC");
+        final ScrollPosition nextPosition = ScrollPosition.forward(Map.of(
+                "birthDate", user.getBirthDate(), "id", user.getId()));
+        final String cursor = CursorUtils.encode(ScrollPosition.forward(Map.of(
+                "birthDate", LocalDate.of(1992, 1, 1), "id", 7L)));
+        Window<User> users = Window.from(List.of(user), index -> nextPosition, true);
+        when(userService.scrollUsersByBirthDateBetween(eq(from), eq(to), eq(sort),
+                eq(CursorUtils.decode(cursor, sort)), eq(1))).thenReturn(users);
+        when(responseDtoMapper.mapToDto(user)).thenReturn(userResponseDto);
+        mvc.perform(get("/users")
+                        .param("from", from.toString())
+                        .param("to", to.toString())
+                        .param("count", "1")
+                        .param("sortBy", "birthDate:ASC")
+                        .param("cursor", cursor))
+                .andExpect(status().isOk())
+                .andExpect(header().string(UserController.HAS_NEXT_HEADER, "true"))
+                .andExpect(header().string(UserController.NEXT_CURSOR_HEADER,
+                        CursorUtils.encode(nextPosition)))
+                .andExpect(jsonPath("$.size()").value(1))
+                .andExpect(jsonPath("$[0].id").value(userResponseDto.getId()));
+    }
+
+    @Test
+    public void getAllByBirthDateBetween_withCursorAndZeroCount_notOk() throws Exception {
+        final String cursor = CursorUtils.encode(ScrollPosition.forward(Map.of(
+                "birthDate", LocalDate.of(1992, 1, 1), "id", 7L)));
+        mvc.perform(get("/users")
+                        .param("from", "1990-01-01")
+                        .param("to", "2000-01-01")
+                        .param("count", "0")
+                        .param("sortBy", "birthDate:ASC")
+                        .param("cursor", cursor))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorMessage").value("\"count\" should be at least 1."));
+        verifyNoInteractions(userService);
+    }
+
+    @Test
+    public void getAllByBirthDateBetween_invalidCursor_notOk() throws Exception {
+        mvc.perform(get("/users")
+                        .param("from", "1990-01-01")
+                        .param("to", "2000-01-01")
+                        .param("cursor", "not a cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorMessage").value("Invalid cursor."));
+    }
+
+    @Test
+    public void getAllByBirthDateBetween_unknownSortField_notOk() throws Exception {
+        mvc.perform(get("/users")
+                        .param("from", "1990-01-01")
+                        .param("to", "2000-01-01")
+                        .param("sortBy", "address:ASC"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorMessage").value(containsString("address")));
+        verifyNoInteractions(userService);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void exportByBirthDateBetween_ok() throws Exception {
+        final LocalDate from = LocalDate.of(1990, 1, 1);
+        final LocalDate to = LocalDate.of(2000, 1, 1);
+        doAnswer(invocation -> {
+            Consumer<User> consumer = invocation.getArgument(2);
+            consumer.accept(user);
+            consumer.accept(user);
+            return null;
+        }).when(userService).exportUsersByBirthDateBetween(eq(from), eq(to), any(Consumer.class));
+        when(responseDtoMapper.mapToDto(user)).thenReturn(userResponseDto);
+        MvcResult result = mvc.perform(get("/users/export")
+                        .param("from", from.toString())
+                        .param("to", to.toString()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String line = objectMapper.writeValueAsString(userResponseDto) + "\n";
+        mvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(line + line));
+    }
 }
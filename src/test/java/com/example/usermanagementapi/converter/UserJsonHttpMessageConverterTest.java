@@ -0,0 +1,98 @@
+package com.example.usermanagementapi.converter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.usermanagementapi.dto.UserResponseDto;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.lang.reflect.Type;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+class UserJsonHttpMessageConverterTest {
+    private static final Type USER_LIST_TYPE = new TypeReference<List<UserResponseDto>>() {
+    }.getType();
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private Cache cache;
+    private UserJsonHttpMessageConverter converter;
+    private UserResponseDto user;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ConcurrentMapCache("userJson");
+        converter = new UserJsonHttpMessageConverter(objectMapper, cache);
+        user = UserResponseDto.builder()
+                .id(1L)
+                .email("vladDuncan@gmail.com")
+                .firstName("Vlad")
+                .lastName("Duncan")
+                .birthDate(LocalDate.of(1995, 5, 2))
+                .version(0L)
+                .build();
+    }
+
+    @Test
+    void canWrite_onlyUsersAndUserCollections() {
+        assertTrue(converter.canWrite(UserResponseDto.class, UserResponseDto.class,
+                MediaType.APPLICATION_JSON));
+        assertTrue(converter.canWrite(USER_LIST_TYPE, List.class, MediaType.APPLICATION_JSON));
+        assertFalse(converter.canWrite(Map.class, Map.class, MediaType.APPLICATION_JSON));
+        assertFalse(converter.canWrite(UserResponseDto.class, UserResponseDto.class,
+                MediaType.APPLICATION_XML));
+        assertFalse(converter.canRead(UserResponseDto.class, MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    void write_user_sameJsonAsJacksonAndCached() throws Exception {
+        assertEquals(objectMapper.writeValueAsString(user), write(user, UserResponseDto.class));
+        assertNotNull(cache.get(user.getId()));
+    }
+
+    @Test
+    void write_cachedVersion_reusesStoredBytes() throws Exception {
+        write(user, UserResponseDto.class);
+        user.setFirstName("Victor");
+        assertEquals("Vlad", objectMapper.readValue(write(user, UserResponseDto.class),
+                UserResponseDto.class).getFirstName());
+    }
+
+    @Test
+    void write_newVersion_serializesAgain() throws Exception {
+        write(user, UserResponseDto.class);
+        user.setFirstName("Victor");
+        user.setVersion(1L);
+        assertEquals(objectMapper.writeValueAsString(user), write(user, UserResponseDto.class));
+    }
+
+    @Test
+    void write_userList_sameJsonAsJackson() throws Exception {
+        UserResponseDto secondUser = UserResponseDto.builder()
+                .id(2L)
+                .email("annDuncan@gmail.com")
+                .birthDate(LocalDate.of(1997, 3, 4))
+                .build();
+        List<UserResponseDto> users = List.of(user, secondUser);
+        assertEquals(objectMapper.writeValueAsString(users), write(users, USER_LIST_TYPE));
+        assertEquals("[]", write(List.of(), USER_LIST_TYPE));
+    }
+
+    private String write(Object value, Type type) throws Exception {
+        MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+        converter.write(value, type, MediaType.APPLICATION_JSON, outputMessage);
+        return outputMessage.getBodyAsString();
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.usermanagementapi.diagnostics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+class SlowQueryLoggingStatisticsTest {
+    @Test
+    void redact_stringLiterals_masked() {
+        assertEquals("select u from User u where u.email = '?' and u.lastName = '?'",
+                SlowQueryLoggingStatistics.redact("select u from User u "
+                        + "where u.email = 'a@b.com' and u.lastName = 'O''Neil'"));
+    }
+
+    @Test
+    void redact_parameters_unchanged() {
+        String query = "select u.email from User u where u.email in :emails";
+        assertEquals(query, SlowQueryLoggingStatistics.redact(query));
+    }
+}
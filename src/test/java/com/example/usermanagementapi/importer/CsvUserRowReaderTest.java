@@ -0,0 +1,70 @@
+package com.example.usermanagementapi.importer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class CsvUserRowReaderTest {
+    @Test
+    void next_mapsColumnsByHeader_ok() throws IOException {
+        CsvUserRowReader reader = reader(
+                "first_name,email,lastName,birthDate,phoneNumber",
+                "Vlad,vlad@gmail.com,\"Duncan, \"\"Jr\"\"\",1995-05-02,",
+                "",
+                "Ann,ann@gmail.com,Duncan,1996-05-02,0123456789");
+        ImportRow first = reader.next();
+        assertEquals(2, first.getLine());
+        assertNull(first.getErrorMessage());
+        assertEquals("Vlad", first.getUser().getFirstName());
+        assertEquals("vlad@gmail.com", first.getUser().getEmail());
+        assertEquals("Duncan, \"Jr\"", first.getUser().getLastName());
+        assertEquals(LocalDate.of(1995, 5, 2), first.getUser().getBirthDate());
+        assertNull(first.getUser().getPhoneNumber());
+        ImportRow second = reader.next();
+        assertEquals(4, second.getLine());
+        assertEquals("0123456789", second.getUser().getPhoneNumber());
+        assertNull(reader.next());
+    }
+
+    @Test
+    void next_malformedRows_invalid() throws IOException {
+        CsvUserRowReader reader = reader(
+                "email,firstName,lastName,birthDate",
+                "vlad@gmail.com,Vlad,Duncan",
+                "vlad@gmail.com,Vlad,\"Duncan,1995-05-02",
+                "vlad@gmail.com,Vlad,Duncan,02.05.1995");
+        assertEquals("Malformed row: expected 4 columns.", reader.next().getErrorMessage());
+        assertEquals("Malformed row: expected 4 columns.", reader.next().getErrorMessage());
+        ImportRow row = reader.next();
+        assertEquals(4, row.getLine());
+        assertEquals("vlad@gmail.com,Vlad,Duncan,02.05.1995", row.getRow());
+        assertEquals("Invalid birth date", row.getErrorMessage());
+    }
+
+    @Test
+    void create_headerWithoutRequiredColumns_notOk() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> reader("email,firstName,lastName"));
+        assertEquals("CSV header must contain the email, firstName, lastName and birthDate "
+                + "columns.", exception.getMessage());
+    }
+
+    @Test
+    void split_quotedValues_ok() {
+        assertEquals(List.of("a", "b,c", "", "d\"e"), CsvUserRowReader.split(
+                "a,\"b,c\",,\"d\"\"e\""));
+        assertNull(CsvUserRowReader.split("a,\"b"));
+    }
+
+    private CsvUserRowReader reader(String... lines) throws IOException {
+        return new CsvUserRowReader(new BufferedReader(new StringReader(String.join("\n",
+                lines))));
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.usermanagementapi.importer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.LocalDate;
+import org.junit.jupiter.api.Test;
+
+class NdjsonUserRowReaderTest {
+    @Test
+    void next_skipsBlankLinesAndReportsMalformedRows_ok() throws IOException {
+        NdjsonUserRowReader reader = new NdjsonUserRowReader(new BufferedReader(
+                new StringReader(String.join("\n",
+                        "{\"email\":\"vlad@gmail.com\",\"birthDate\":\"1995-05-02\"}",
+                        "",
+                        "{\"email\":",
+                        "null"))),
+                new ObjectMapper().registerModule(new JavaTimeModule()));
+        ImportRow first = reader.next();
+        assertEquals(1, first.getLine());
+        assertEquals("vlad@gmail.com", first.getUser().getEmail());
+        assertEquals(LocalDate.of(1995, 5, 2), first.getUser().getBirthDate());
+        ImportRow second = reader.next();
+        assertEquals(3, second.getLine());
+        assertNull(second.getUser());
+        assertTrue(second.getErrorMessage().startsWith("Malformed row: "));
+        ImportRow third = reader.next();
+        assertNull(third.getUser());
+        assertEquals("Row must be a JSON object", third.getErrorMessage());
+        assertNull(reader.next());
+    }
+}
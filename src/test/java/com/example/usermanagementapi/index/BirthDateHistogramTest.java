@@ -0,0 +1,67 @@
+package com.example.usermanagementapi.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.when;
+
+import com.example.usermanagementapi.model.BirthDateCount;
+import com.example.usermanagementapi.repository.UserRepository;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+class BirthDateHistogramTest {
+    private static final LocalDate FIRST_DATE = LocalDate.of(1990, 1, 1);
+    private static final LocalDate SECOND_DATE = LocalDate.of(1990, 6, 1);
+    private static final LocalDate THIRD_DATE = LocalDate.of(1995, 5, 2);
+    private UserRepository userRepository;
+    private BirthDateHistogram birthDateHistogram;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = Mockito.mock(UserRepository.class);
+        when(userRepository.countAllByBirthDate()).thenReturn(List.of(
+                new BirthDateCount(FIRST_DATE, 2), new BirthDateCount(THIRD_DATE, 1)));
+        birthDateHistogram = new BirthDateHistogram(userRepository);
+        birthDateHistogram.refresh();
+    }
+
+    @Test
+    void refresh_loadsCountsFromRepository_ok() {
+        assertEquals(3, birthDateHistogram.count());
+        assertEquals(FIRST_DATE, birthDateHistogram.oldestBirthDate());
+        assertEquals(Map.of(1990, 2L, 1995, 1L), birthDateHistogram.countByBirthYear());
+    }
+
+    @Test
+    void refresh_replacesCountsWithRepositoryCounts_ok() {
+        when(userRepository.countAllByBirthDate()).thenReturn(List.of(
+                new BirthDateCount(SECOND_DATE, 2)));
+        birthDateHistogram.refresh();
+        assertEquals(2, birthDateHistogram.count());
+        assertEquals(2, birthDateHistogram.countBetween(SECOND_DATE, SECOND_DATE));
+        assertEquals(0, birthDateHistogram.countBetween(THIRD_DATE, LocalDate.MAX));
+        assertEquals(SECOND_DATE, birthDateHistogram.oldestBirthDate());
+        assertEquals(Map.of(1990, 2L), birthDateHistogram.countByBirthYear());
+    }
+
+    @Test
+    void refresh_noUsers_emptyCounts() {
+        when(userRepository.countAllByBirthDate()).thenReturn(List.of());
+        birthDateHistogram.refresh();
+        assertEquals(0, birthDateHistogram.count());
+        assertNull(birthDateHistogram.oldestBirthDate());
+        assertNotNull(birthDateHistogram.refreshedAt());
+    }
+
+    @Test
+    void countBetween_inclusiveBounds_ok() {
+        assertEquals(3, birthDateHistogram.countBetween(FIRST_DATE, THIRD_DATE));
+        assertEquals(1, birthDateHistogram.countBetween(FIRST_DATE.plusDays(1), THIRD_DATE));
+        assertEquals(0, birthDateHistogram.countBetween(THIRD_DATE, FIRST_DATE));
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.usermanagementapi.index;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class BloomFilterTest {
+    @Test
+    void mightContain_addedValues_true() {
+        BloomFilter bloomFilter = new BloomFilter(1000, 0.01);
+        IntStream.range(0, 1000).forEach(i -> bloomFilter.put("user" + i + "@example.com"));
+        IntStream.range(0, 1000).forEach(i -> assertTrue(bloomFilter
+                .mightContain("user" + i + "@example.com")));
+    }
+
+    @Test
+    void mightContain_absentValues_falsePositiveRateNearConfigured() {
+        BloomFilter bloomFilter = new BloomFilter(10_000, 0.01);
+        IntStream.range(0, 10_000).forEach(i -> bloomFilter.put("user" + i + "@example.com"));
+        long falsePositives = IntStream.range(0, 10_000)
+                .filter(i -> bloomFilter.mightContain("other" + i + "@example.com"))
+                .count();
+        assertTrue(falsePositives < 200, "False positives: " + falsePositives);
+    }
+
+    @Test
+    void mightContain_empty_false() {
+        assertFalse(new BloomFilter(1000, 0.01).mightContain("vladDuncan@gmail.com"));
+    }
+
+    @Test
+    void create_invalidParameters_notOk() {
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(0, 0.01));
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(1000, 1));
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.usermanagementapi.index;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import com.example.usermanagementapi.repository.UserRepository;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+class EmailIndexTest {
+    private UserRepository userRepository;
+    private EmailIndex emailIndex;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = Mockito.mock(UserRepository.class);
+        emailIndex = new EmailIndex(userRepository, 1000, 0.01);
+    }
+
+    @Test
+    void warmUp_loadsExistingEmails() {
+        when(userRepository.count()).thenReturn(2L);
+        when(userRepository.streamAllNormalizedEmails())
+                .thenReturn(Stream.of("vladduncan@gmail.com", "annduncan@gmail.com"));
+        emailIndex.warmUp();
+        assertTrue(emailIndex.mightContain("vladDuncan@gmail.com"));
+        assertTrue(emailIndex.mightContain("annDuncan@gmail.com"));
+        assertFalse(emailIndex.mightContain("victorDon@gmail.com"));
+    }
+
+    @Test
+    void mightContain_normalizesCaseAndWhitespace() {
+        emailIndex.add("VladDuncan@Gmail.com");
+        assertTrue(emailIndex.mightContain(" vladduncan@gmail.com "));
+        assertFalse(emailIndex.mightContain(null));
+    }
+}
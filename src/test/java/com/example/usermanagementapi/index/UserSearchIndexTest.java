@@ -0,0 +1,174 @@
+package com.example.usermanagementapi.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import com.example.usermanagementapi.dto.UserResponseDto;
+import com.example.usermanagementapi.model.User;
+import com.example.usermanagementapi.repository.UserRepository;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class UserSearchIndexTest {
+    private UserRepository userRepository;
+    private UserSearchIndex userSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = Mockito.mock(UserRepository.class);
+        userSearchIndex = new UserSearchIndex(userRepository);
+        userSearchIndex.warmUp();
+        userSearchIndex.add(user(1L, "Vlad", "Duncan", "vladDuncan@gmail.com", "Kyiv, Main st"));
+        userSearchIndex.add(user(2L, "Vladislav", "Donovan", "vlad.don@ukr.net", null));
+        userSearchIndex.add(user(3L, "Ann", "Duncan", "ann@gmail.com", "Lviv"));
+    }
+
+    @Test
+    void search_exactMatchScoresAbovePrefixMatch_ok() {
+        assertEquals(List.of(1L, 2L), search("vlad"));
+        assertEquals(List.of(2L, 1L), search("vladis"));
+    }
+
+    @Test
+    void search_allTermsMustMatch_ok() {
+        assertEquals(List.of(1L), search("Vlad Duncan"));
+        assertEquals(List.of(3L), search("duncan lviv"));
+        assertEquals(List.of(), search("ann kyiv"));
+    }
+
+    @Test
+    void search_misspelledTerm_fuzzyMatch() {
+        assertEquals(List.of(1L, 3L), search("dunkan"));
+        assertEquals(List.of(), search("smith"));
+    }
+
+    @Test
+    void search_emailAndAddressTokens_ok() {
+        assertEquals(List.of(2L), search("ukr.net"));
+        assertEquals(List.of(1L), search("main"));
+    }
+
+    @Test
+    void search_paginatesResults_ok() {
+        Slice<Long> firstPage = userSearchIndex.search("duncan", PageRequest.of(0, 1));
+        assertEquals(List.of(1L), firstPage.getContent());
+        assertTrue(firstPage.hasNext());
+        Slice<Long> secondPage = userSearchIndex.search("duncan", PageRequest.of(1, 1));
+        assertEquals(List.of(3L), secondPage.getContent());
+        assertFalse(secondPage.hasNext());
+    }
+
+    @Test
+    void add_replacesPreviousTokens_ok() {
+        userSearchIndex.add(user(3L, "Ann", "Smith", "ann@gmail.com", "Lviv"));
+        assertEquals(List.of(1L), search("duncan"));
+        assertEquals(List.of(3L), search("smith"));
+    }
+
+    @Test
+    void remove_ok() {
+        userSearchIndex.remove(1L);
+        assertEquals(List.of(3L), search("duncan"));
+        assertEquals(List.of(2L), search("vlad"));
+    }
+
+    @Test
+    void search_manyMatchingUsers_allMatchesRankedAndPaged() {
+        for (long id = 10; id < 50_010; id++) {
+            userSearchIndex.add(user(id, "Name" + id, "Surname", "user" + id + "@gmail.com",
+                    null));
+        }
+        assertEquals(List.of(12345L), search("name12345"));
+        assertEquals(List.of(12345L), search("surname name12345"));
+        assertEquals(List.of(12345L), search("user12345 gmail"));
+        assertEquals(List.of(1L, 3L, 10L, 11L, 12L, 13L, 14L, 15L, 16L, 17L), search("gmail"));
+        Slice<Long> lastPage = userSearchIndex.search("gmail surname",
+                PageRequest.of(4999, 10));
+        assertEquals(List.of(50_000L, 50_001L, 50_002L, 50_003L, 50_004L, 50_005L, 50_006L,
+                50_007L, 50_008L, 50_009L), lastPage.getContent());
+        assertFalse(lastPage.hasNext());
+        assertTrue(userSearchIndex.search("gmail", PageRequest.of(4999, 10)).hasNext());
+    }
+
+    @Test
+    void trigramsOf_distinctPaddedTrigrams() {
+        assertEquals(List.of("$du", "dun", "unc", "nca", "can", "an$"),
+                List.copyOf(UserSearchIndex.trigramsOf("duncan")));
+        assertEquals(List.of("$aa", "aaa", "aa$"), List.copyOf(UserSearchIndex.trigramsOf("aaaa")));
+    }
+
+    @Test
+    void search_queryWithoutTerms_notOk() {
+        assertThrows(IllegalArgumentException.class, () -> search(" ,. "));
+    }
+
+    @Test
+    void warmUp_indexesExistingUsers() {
+        when(userRepository.streamAllResponseDtos()).thenReturn(Stream.of(UserResponseDto.builder()
+                .id(4L)
+                .firstName("Victor")
+                .lastName("Don")
+                .email("victorDon@gmail.com").build()));
+        userSearchIndex.warmUp();
+        assertEquals(List.of(4L), search("victor"));
+    }
+
+    @Test
+    void search_beforeWarmUp_notReady() {
+        UserSearchIndex coldIndex = new UserSearchIndex(userRepository);
+        assertFalse(coldIndex.isReady());
+        assertThrows(IndexNotReadyException.class,
+                () -> coldIndex.search("vlad", PageRequest.of(0, 10)));
+    }
+
+    @Test
+    void addAndRemove_insideTransaction_appliedOnlyAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            userSearchIndex.add(user(4L, "Victor", "Don", "victorDon@gmail.com", null));
+            userSearchIndex.remove(1L);
+            assertEquals(List.of(), search("victor"));
+            assertEquals(List.of(1L, 2L), search("vlad"));
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertEquals(List.of(4L), search("victor"));
+        assertEquals(List.of(2L), search("vlad"));
+    }
+
+    @Test
+    void add_rolledBackTransaction_notIndexed() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            userSearchIndex.add(user(4L, "Victor", "Don", "victorDon@gmail.com", null));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertEquals(List.of(), search("victor"));
+    }
+
+    private List<Long> search(String query) {
+        return userSearchIndex.search(query, PageRequest.of(0, 10)).getContent();
+    }
+
+    private User user(Long id, String firstName, String lastName, String email, String address) {
+        return User.builder()
+                .id(id)
+                .firstName(firstName)
+                .lastName(lastName)
+                .email(email)
+                .address(address).build();
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.usermanagementapi.load;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+public class LoadGenerator {
+    private final int concurrency;
+    private final Duration warmup;
+    private final Duration duration;
+    private final HttpClient client = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+    public LoadGenerator(int concurrency, Duration warmup, Duration duration) {
+        this.concurrency = concurrency;
+        this.warmup = warmup;
+        this.duration = duration;
+    }
+
+    public static void seed(String baseUrl, int users) throws Exception {
+        StringJoiner body = new StringJoiner(",", "[", "]");
+        for (int i = 0; i < users; i++) {
+            body.add("{\"email\":\"load" + i + "@example.com\",\"firstName\":\"Load\","
+                    + "\"lastName\":\"Test\",\"birthDate\":\"1990-01-01\"}");
+        }
+        HttpResponse<Void> response = HttpClient.newHttpClient().send(HttpRequest
+                        .newBuilder(URI.create(baseUrl + "/batch"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(body.toString()))
+                        .build(),
+                HttpResponse.BodyHandlers.discarding());
+        assertEquals(200, response.statusCode());
+    }
+
+    public LoadResult run(Supplier<HttpRequest> requests) throws Exception {
+        long measureFrom = System.nanoTime() + warmup.toNanos();
+        long measureTo = measureFrom + duration.toNanos();
+        List<Future<Worker>> workers = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                workers.add(executor.submit(() -> new Worker()
+                        .run(requests, measureFrom, measureTo)));
+            }
+        }
+        long[] latencies = workers.stream()
+                .map(this::join)
+                .flatMap(worker -> worker.latencies.stream())
+                .mapToLong(Long::longValue)
+                .sorted()
+                .toArray();
+        long errors = workers.stream()
+                .map(this::join)
+                .mapToLong(worker -> worker.errors)
+                .sum();
+        return new LoadResult(latencies, errors, duration);
+    }
+
+    private Worker join(Future<Worker> future) {
+        try {
+            return future.get();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private class Worker {
+        private final List<Long> latencies = new ArrayList<>();
+        private long errors;
+
+        Worker run(Supplier<HttpRequest> requests, long measureFrom, long measureTo) {
+            long now = System.nanoTime();
+            while (now < measureTo) {
+                boolean failed;
+                try {
+                    HttpResponse<Void> response = client.send(requests.get(),
+                            HttpResponse.BodyHandlers.discarding());
+                    failed = response.statusCode() >= 400;
+                } catch (Exception e) {
+                    failed = true;
+                }
+                long finished = System.nanoTime();
+                if (now >= measureFrom && finished <= measureTo) {
+                    if (failed) {
+                        errors++;
+                    } else {
+                        latencies.add(finished - now);
+                    }
+                }
+                now = finished;
+            }
+            return this;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.usermanagementapi.load;
+
+import java.time.Duration;
+
+public class LoadResult {
+    private final long[] sortedLatencies;
+    private final long errors;
+    private final Duration duration;
+
+    LoadResult(long[] sortedLatencies, long errors, Duration duration) {
+        this.sortedLatencies = sortedLatencies;
+        this.errors = errors;
+        this.duration = duration;
+    }
+
+    public long getRequests() {
+        return sortedLatencies.length;
+    }
+
+    public long getErrors() {
+        return errors;
+    }
+
+    public double getThroughput() {
+        return sortedLatencies.length * 1000.0 / duration.toMillis();
+    }
+
+    public double getPercentileMillis(double percentile) {
+        if (sortedLatencies.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100 * sortedLatencies.length) - 1;
+        return sortedLatencies[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d requests, %d errors, %.0f req/s, p50 %.1f ms, p99 %.1f ms",
+                getRequests(), errors, getThroughput(), getPercentileMillis(50),
+                getPercentileMillis(99));
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.usermanagementapi.load;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Driver;
+import java.sql.DriverPropertyInfo;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+public class SlowH2Driver implements Driver {
+    public static final String URL_PREFIX = "jdbc:slow:";
+    private static volatile long latencyMillis;
+    private final Driver h2Driver = new org.h2.Driver();
+
+    public static void setLatencyMillis(long latencyMillis) {
+        SlowH2Driver.latencyMillis = latencyMillis;
+    }
+
+    @Override
+    public Connection connect(String url, Properties info) throws SQLException {
+        if (!acceptsURL(url)) {
+            return null;
+        }
+        return slowConnection(h2Driver.connect(h2Url(url), info));
+    }
+
+    @Override
+    public boolean acceptsURL(String url) {
+        return url != null && url.startsWith(URL_PREFIX);
+    }
+
+    @Override
+    public DriverPropertyInfo[] getPropertyInfo(String url, Properties info)
+            throws SQLException {
+        return h2Driver.getPropertyInfo(h2Url(url), info);
+    }
+
+    @Override
+    public int getMajorVersion() {
+        return h2Driver.getMajorVersion();
+    }
+
+    @Override
+    public int getMinorVersion() {
+        return h2Driver.getMinorVersion();
+    }
+
+    @Override
+    public boolean jdbcCompliant() {
+        return h2Driver.jdbcCompliant();
+    }
+
+    @Override
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        return h2Driver.getParentLogger();
+    }
+
+    private static String h2Url(String url) {
+        return "jdbc:" + url.substring(URL_PREFIX.length());
+    }
+
+    private static Connection slowConnection(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[] {Connection.class}, (proxy, method, args) -> {
+                    Object result = invoke(connection, method, args);
+                    if (result instanceof PreparedStatement) {
+                        return slowStatement((PreparedStatement) result);
+                    }
+                    return result;
+                });
+    }
+
+    private static PreparedStatement slowStatement(PreparedStatement statement) {
+        return (PreparedStatement) Proxy.newProxyInstance(
+                PreparedStatement.class.getClassLoader(),
+                new Class<?>[] {PreparedStatement.class},
+                (proxy, method, args) -> invoke(statement, method, args));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        if (method.getName().startsWith("execute")) {
+            TimeUnit.MILLISECONDS.sleep(latencyMillis);
+        }
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.usermanagementapi.load;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.usermanagementapi.UserManagementApiApplication;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+
+@Slf4j
+@Tag("load")
+class ThreadModeLoadTest {
+    private static final int USERS = 500;
+    private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 800);
+    private static final int POOL_SIZE = Integer.getInteger("load.pool-size", 400);
+    private static final long DB_LATENCY_MILLIS = Long.getLong("load.db-latency-ms", 50);
+    private static final Duration WARMUP = Duration.ofSeconds(
+            Long.getLong("load.warmup-seconds", 5));
+    private static final Duration DURATION = Duration.ofSeconds(
+            Long.getLong("load.duration-seconds", 20));
+
+    @Test
+    void getById_platformVsVirtualThreads() throws Exception {
+        SlowH2Driver.setLatencyMillis(DB_LATENCY_MILLIS);
+        LoadResult platform = run(false);
+        LoadResult virtual = run(true);
+        log.info("GET /users/{id}, {} clients, pool {}, {} ms per statement", CONCURRENCY,
+                POOL_SIZE, DB_LATENCY_MILLIS);
+        log.info("platform threads: {}", platform);
+        log.info("virtual threads:  {}", virtual);
+        assertServedWithoutErrors(platform);
+        assertServedWithoutErrors(virtual);
+    }
+
+    private void assertServedWithoutErrors(LoadResult result) {
+        assertTrue(result.getRequests() > 0, result::toString);
+        assertEquals(0, result.getErrors(), result::toString);
+    }
+
+    private LoadResult run(boolean virtualThreads) throws Exception {
+        try (ServletWebServerApplicationContext context =
+                     (ServletWebServerApplicationContext) new SpringApplicationBuilder(
+                             UserManagementApiApplication.class)
+                             .properties(
+                                     "server.port=0",
+                                     "user.threads.virtual.enabled=" + virtualThreads,
+                                     "spring.cache.type=none",
+                                     "spring.jpa.properties.hibernate.cache"
+                                             + ".use_second_level_cache=false",
+                                     "spring.jpa.properties.hibernate.cache"
+                                             + ".use_query_cache=false",
+                                     "spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+                                     "spring.datasource.driver-class-name="
+                                             + SlowH2Driver.class.getName(),
+                                     "spring.datasource.url=" + SlowH2Driver.URL_PREFIX
+                                             + "h2:mem:load-" + virtualThreads)
+                             .run()) {
+            String baseUrl = "http://localhost:" + context.getWebServer().getPort() + "/users";
+            LoadGenerator.seed(baseUrl, USERS);
+            return new LoadGenerator(CONCURRENCY, WARMUP, DURATION).run(() -> HttpRequest
+                    .newBuilder(URI.create(baseUrl + "/"
+                            + ThreadLocalRandom.current().nextInt(1, USERS + 1)))
+                    .build());
+        }
+    }
+}
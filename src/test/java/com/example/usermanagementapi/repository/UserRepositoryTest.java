@@ -0,0 +1,297 @@
+package com.example.usermanagementapi.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.usermanagementapi.dto.UserResponseDto;
+import com.example.usermanagementapi.model.BirthDateCount;
+import com.example.usermanagementapi.model.User;
+import com.example.usermanagementapi.repository.specification.UserSpecifications;
+import com.example.usermanagementapi.util.CursorUtils;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+
+@DataJpaTest
+class UserRepositoryTest {
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void birthDateRange_usesBirthDateIdIndex() {
+        String plan = explain("select * from users where birth_date between "
+                + "date '1990-01-01' and date '2000-01-01' order by id desc");
+
+        assertTrue(plan.contains("IDX_USERS_BIRTH_DATE_ID"), plan);
+    }
+
+    @Test
+    void birthDateRangeOrderedByBirthDateAndId_usesBirthDateIdIndexWithoutSort() {
+        String plan = explain("select * from users where birth_date between "
+                + "date '1990-01-01' and date '2000-01-01' order by birth_date, id");
+
+        assertTrue(plan.contains("IDX_USERS_BIRTH_DATE_ID"), plan);
+        assertTrue(plan.contains("index sorted"), plan);
+    }
+
+    @Test
+    void orderByLastName_usesLastNameIndexWithoutSort() {
+        String plan = explain("select * from users order by last_name, first_name "
+                + "fetch first 10 rows only");
+
+        assertTrue(plan.contains("IDX_USERS_LAST_NAME_FIRST_NAME"), plan);
+        assertTrue(plan.contains("index sorted"), plan);
+    }
+
+    @Test
+    void orderByFirstName_usesFirstNameIndexWithoutSort() {
+        String plan = explain("select * from users order by first_name "
+                + "fetch first 10 rows only");
+
+        assertTrue(plan.contains("IDX_USERS_FIRST_NAME"), plan);
+        assertTrue(plan.contains("index sorted"), plan);
+    }
+
+    @Test
+    void lastNamePrefix_usesLastNameFirstNameIndex() {
+        String plan = explain("select * from users where last_name like 'Dun%' escape '\\' "
+                + "and address like 'Kyiv%' escape '\\' order by id");
+
+        assertTrue(plan.contains("IDX_USERS_LAST_NAME_FIRST_NAME"), plan);
+    }
+
+    @Test
+    void findBySpecification_combinedFiltersPagedByOffset_ok() {
+        for (String lastName : List.of("Duncan", "Dunn", "Don", "Dun_x")) {
+            userRepository.save(User.builder()
+                    .email(lastName + "@gmail.com")
+                    .firstName("Vlad")
+                    .lastName(lastName)
+                    .address("Kyiv, Main st")
+                    .birthDate(LocalDate.of(1995, 5, 2))
+                    .build());
+        }
+        userRepository.flush();
+        Specification<User> specification = Specification.allOf(
+                UserSpecifications.startsWith("lastName", "Dun"),
+                UserSpecifications.startsWith("address", "Kyiv,"),
+                UserSpecifications.atMost("birthDate", LocalDate.of(2000, 1, 1)));
+
+        Window<User> firstPage = userRepository.findBy(specification, query -> query
+                .sortBy(Sort.by("lastName")).limit(2).scroll(ScrollPosition.offset()));
+        Window<User> secondPage = userRepository.findBy(specification, query -> query
+                .sortBy(Sort.by("lastName")).limit(2).scroll(ScrollPosition.offset(2)));
+        final Window<User> escaped = userRepository.findBy(UserSpecifications.startsWith(
+                "lastName", "Dun_"), query -> query.limit(10).scroll(ScrollPosition.offset()));
+
+        assertEquals(List.of("Dun_x", "Duncan"), firstPage.stream()
+                .map(User::getLastName).toList());
+        assertTrue(firstPage.hasNext());
+        assertEquals(List.of("Dunn"), secondPage.stream().map(User::getLastName).toList());
+        assertFalse(secondPage.hasNext());
+        assertEquals(List.of("Dun_x"), escaped.stream().map(User::getLastName).toList());
+    }
+
+    @Test
+    void seekAfter_mixedDirectionSort_pagesThroughAllRowsInOrder() {
+        List<User> users = new ArrayList<>();
+        for (String lastName : List.of("Duncan", "Don", "Duncan", "Don", "Duncan", "Duncan")) {
+            users.add(userRepository.save(User.builder()
+                    .email(lastName + users.size() + "@gmail.com")
+                    .firstName("Vlad")
+                    .lastName(lastName)
+                    .birthDate(LocalDate.of(1995, 5, 2).plusDays(users.size() / 3))
+                    .build()));
+        }
+        userRepository.flush();
+        Sort sort = CursorUtils.withIdTieBreaker(Sort.by(Sort.Order.asc("lastName"),
+                Sort.Order.desc("birthDate")));
+        List<Long> expected = users.stream()
+                .sorted(Comparator.comparing(User::getLastName)
+                        .thenComparing(User::getBirthDate, Comparator.reverseOrder())
+                        .thenComparing(User::getId))
+                .map(User::getId)
+                .toList();
+
+        List<Long> scrolled = new ArrayList<>();
+        List<User> page = userRepository.findBy(Specification.where(null),
+                query -> query.sortBy(sort).limit(2).all());
+        while (!page.isEmpty()) {
+            page.forEach(user -> scrolled.add(user.getId()));
+            Map<String, Object> keys = CursorUtils.keysOf(page.get(page.size() - 1), sort);
+            page = userRepository.findBy(UserSpecifications.seekAfter(sort, keys),
+                    query -> query.sortBy(sort).limit(2).all());
+        }
+
+        assertEquals(expected, scrolled);
+    }
+
+    @Test
+    void findResponseDtos_projectsRowsWithoutManagedEntities() {
+        User user = userRepository.saveAndFlush(User.builder()
+                .email("vladDuncan@gmail.com")
+                .firstName("Vlad")
+                .lastName("Duncan")
+                .birthDate(LocalDate.of(1995, 5, 2))
+                .build());
+        entityManager.clear();
+
+        UserResponseDto userResponseDto = userRepository.findResponseDtoById(user.getId())
+                .orElseThrow();
+        Slice<UserResponseDto> userResponseDtos = userRepository
+                .findResponseDtosByBirthDateBetween(LocalDate.of(1990, 1, 1),
+                        LocalDate.of(2000, 1, 1), PageRequest.of(0, 10, Sort.by("id")));
+
+        assertEquals(user.getEmail(), userResponseDto.getEmail());
+        assertEquals(user.getBirthDate(), userResponseDto.getBirthDate());
+        assertEquals(List.of(userResponseDto), userResponseDtos.getContent());
+        assertFalse(userResponseDtos.hasNext());
+        assertFalse(entityManager.contains(user));
+        assertEquals(0, entityManager.unwrap(Session.class).getStatistics().getEntityCount());
+    }
+
+    @Test
+    void findResponseDtos_fullPage_hasNextAndCountCoversWindow() {
+        userRepository.saveAllAndFlush(List.of(
+                User.builder()
+                        .email("vladDuncan@gmail.com")
+                        .firstName("Vlad")
+                        .lastName("Duncan")
+                        .birthDate(LocalDate.of(1995, 5, 2))
+                        .build(),
+                User.builder()
+                        .email("annDuncan@gmail.com")
+                        .firstName("Ann")
+                        .lastName("Duncan")
+                        .birthDate(LocalDate.of(1997, 3, 4))
+                        .build()));
+        final LocalDate from = LocalDate.of(1990, 1, 1);
+        final LocalDate to = LocalDate.of(2000, 1, 1);
+
+        Slice<UserResponseDto> firstPage = userRepository.findResponseDtosByBirthDateBetween(
+                from, to, PageRequest.of(0, 1, Sort.by("id")));
+        Slice<UserResponseDto> lastPage = userRepository.findResponseDtosByBirthDateBetween(
+                from, to, PageRequest.of(1, 1, Sort.by("id")));
+
+        assertEquals(1, firstPage.getNumberOfElements());
+        assertTrue(firstPage.hasNext());
+        assertEquals(1, lastPage.getNumberOfElements());
+        assertFalse(lastPage.hasNext());
+        assertEquals(2, userRepository.countByBirthDateBetween(from, to));
+    }
+
+    @Test
+    void updateById_incrementsVersionAndRejectsStaleVersion() {
+        User user = userRepository.saveAndFlush(User.builder()
+                .email("vladDuncan@gmail.com")
+                .firstName("Vlad")
+                .lastName("Duncan")
+                .birthDate(LocalDate.of(1995, 5, 2))
+                .build());
+        User update = User.builder()
+                .email(user.getEmail())
+                .firstName("Victor")
+                .lastName("Don")
+                .birthDate(user.getBirthDate())
+                .version(user.getVersion())
+                .build();
+
+        assertEquals(1, userRepository.updateById(user.getId(), update));
+        entityManager.clear();
+        assertEquals(user.getVersion() + 1,
+                userRepository.findById(user.getId()).orElseThrow().getVersion());
+        assertEquals(0, userRepository.updateById(user.getId(), update));
+        assertEquals(0, userRepository.deleteUserById(user.getId(), user.getVersion()));
+        assertEquals(1, userRepository.deleteUserById(user.getId(), null));
+    }
+
+    @Test
+    void countByBirthDate_groupsUsersByBirthDate_ok() {
+        final LocalDate birthDate = LocalDate.of(1995, 5, 2);
+        userRepository.save(User.builder()
+                .email("vladDuncan@gmail.com")
+                .firstName("Vlad")
+                .lastName("Duncan")
+                .birthDate(birthDate).build());
+        userRepository.save(User.builder()
+                .email("victorDon@gmail.com")
+                .firstName("Victor")
+                .lastName("Don")
+                .birthDate(birthDate).build());
+        userRepository.saveAndFlush(User.builder()
+                .email("annDuncan@gmail.com")
+                .firstName("Ann")
+                .lastName("Duncan")
+                .birthDate(LocalDate.of(1990, 1, 1)).build());
+
+        List<BirthDateCount> counts = userRepository.countAllByBirthDate();
+        assertEquals(2, counts.size());
+        assertEquals(3, counts.stream().mapToLong(BirthDateCount::getCount).sum());
+        assertEquals(2, counts.stream()
+                .filter(count -> count.getBirthDate().equals(birthDate))
+                .findFirst().orElseThrow().getCount());
+    }
+
+    @Test
+    void normalizedEmail_keptInSyncAndUniqueIgnoringCase() {
+        User user = userRepository.saveAndFlush(User.builder()
+                .email(" VladDuncan@Gmail.com")
+                .firstName("Vlad")
+                .lastName("Duncan")
+                .birthDate(LocalDate.of(1995, 5, 2))
+                .build());
+        assertEquals("vladduncan@gmail.com", user.getNormalizedEmail());
+        assertEquals(user.getId(), userRepository
+                .findResponseDtoByNormalizedEmail("vladduncan@gmail.com").orElseThrow().getId());
+
+        User update = User.builder()
+                .email("VictorDon@gmail.com")
+                .firstName("Victor")
+                .lastName("Don")
+                .birthDate(user.getBirthDate())
+                .build();
+        update.normalizeEmail();
+        userRepository.updateById(user.getId(), update);
+        assertTrue(userRepository.existsByNormalizedEmail("victordon@gmail.com"));
+        assertFalse(userRepository.existsByNormalizedEmail("vladduncan@gmail.com"));
+
+        assertThrows(DataIntegrityViolationException.class, () -> userRepository
+                .saveAndFlush(User.builder()
+                        .email("VICTORDON@gmail.com")
+                        .firstName("Victor")
+                        .lastName("Don")
+                        .birthDate(user.getBirthDate())
+                        .build()));
+    }
+
+    @Test
+    void normalizedEmailLookup_usesUniqueIndex() {
+        String plan = explain("select * from users "
+                + "where normalized_email = 'vladduncan@gmail.com'");
+
+        assertTrue(plan.contains("UK_USERS_NORMALIZED_EMAIL"), plan);
+    }
+
+    private String explain(String sql) {
+        return String.valueOf(entityManager.createNativeQuery("explain " + sql)
+                .getSingleResult());
+    }
+}
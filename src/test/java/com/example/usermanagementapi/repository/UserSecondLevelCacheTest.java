@@ -0,0 +1,127 @@
+package com.example.usermanagementapi.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.usermanagementapi.index.EmailIndex;
+import com.example.usermanagementapi.index.UserSearchIndex;
+import com.example.usermanagementapi.metrics.UserMetrics;
+import com.example.usermanagementapi.model.User;
+import com.example.usermanagementapi.repository.specification.UserFilterPlanner;
+import com.example.usermanagementapi.service.impl.UserServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=true",
+        "spring.jpa.properties.hibernate.cache.region.factory_class=jcache",
+        "spring.jpa.properties.hibernate.javax.cache.provider="
+                + "com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider",
+        "spring.jpa.properties.hibernate.javax.cache.missing_cache_strategy=create",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UserSecondLevelCacheTest {
+    private static final LocalDate BIRTH_DATE = LocalDate.of(1995, 5, 2);
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    private Cache cache;
+    private Statistics statistics;
+    private User first;
+    private User second;
+
+    @BeforeEach
+    void setUp() {
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        cache = sessionFactory.getCache();
+        statistics = sessionFactory.getStatistics();
+        first = userRepository.save(user("vladDuncan@gmail.com"));
+        second = userRepository.save(user("victorDon@gmail.com"));
+        cache.evictAllRegions();
+        userRepository.findById(first.getId());
+        userRepository.findById(second.getId());
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAllInBatch();
+        cache.evictAllRegions();
+    }
+
+    @Test
+    void findById_servedFromSecondLevelCache() {
+        assertTrue(cache.containsEntity(User.class, first.getId()));
+        userRepository.findById(first.getId());
+        assertEquals(1, statistics.getSecondLevelCacheHitCount());
+    }
+
+    @Test
+    void bulkUpdateOfOneUser_evictsWholeUserRegion() {
+        User update = user(second.getEmail());
+        update.setFirstName("Victor");
+        update.normalizeEmail();
+        assertEquals(1, userRepository.updateById(second.getId(), update));
+
+        assertFalse(cache.containsEntity(User.class, first.getId()));
+        assertFalse(cache.containsEntity(User.class, second.getId()));
+    }
+
+    @Test
+    void bulkDeleteOfOneUser_evictsWholeUserRegion() {
+        assertEquals(1, userRepository.deleteUserById(second.getId(), null));
+
+        assertFalse(cache.containsEntity(User.class, first.getId()));
+    }
+
+    @Test
+    void export_doesNotPutStreamedUsersIntoSecondLevelCache() {
+        UserServiceImpl userService = new UserServiceImpl(18, userRepository, entityManager,
+                new UserMetrics(new SimpleMeterRegistry()),
+                new EmailIndex(userRepository, 1000, 0.01),
+                new UserSearchIndex(userRepository),
+                new UserFilterPlanner(true));
+        cache.evictAllRegions();
+        List<Long> exportedIds = new ArrayList<>();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                userService.exportUsersByBirthDateBetween(BIRTH_DATE, BIRTH_DATE,
+                        user -> exportedIds.add(user.getId())));
+
+        assertEquals(List.of(first.getId(), second.getId()), exportedIds);
+        assertFalse(cache.containsEntity(User.class, first.getId()));
+        assertEquals(0, statistics.getSecondLevelCachePutCount());
+    }
+
+    private static User user(String email) {
+        return User.builder()
+                .email(email)
+                .firstName("Vlad")
+                .lastName("Duncan")
+                .birthDate(BIRTH_DATE)
+                .build();
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.usermanagementapi.repository.specification;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.usermanagementapi.dto.UserFilterDto;
+import com.example.usermanagementapi.model.User;
+import java.time.LocalDate;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class UserFilterPlannerTest {
+    private final UserFilterPlanner planner = new UserFilterPlanner(true);
+
+    @Test
+    void indexedProperties_readFromEntityMapping_ok() {
+        Set<String> properties = UserFilterPlanner.indexedProperties(User.class);
+        assertTrue(properties.containsAll(Set.of("id", "normalizedEmail", "birthDate",
+                "lastName")));
+        assertFalse(properties.contains("email"));
+        assertFalse(properties.contains("address"));
+    }
+
+    @Test
+    void plan_indexedFilter_ok() {
+        UserFilterDto filter = new UserFilterDto();
+        filter.setLastNamePrefix("Dun");
+        filter.setAddressPrefix("Kyiv");
+        assertNotNull(planner.plan(filter));
+    }
+
+    @Test
+    void plan_unindexedFilter_rejected() {
+        UserFilterDto filter = new UserFilterDto();
+        filter.setAddressPrefix("Kyiv");
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> planner.plan(filter));
+        assertTrue(exception.getMessage().startsWith("Filter by [addressPrefix] can't use any"));
+        assertNotNull(new UserFilterPlanner(false).plan(filter));
+    }
+
+    @Test
+    void plan_birthDateFromAfterBirthDateTo_notOk() {
+        UserFilterDto filter = new UserFilterDto();
+        filter.setBirthDateFrom(LocalDate.of(2000, 1, 2));
+        filter.setBirthDateTo(LocalDate.of(2000, 1, 1));
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> planner.plan(filter));
+        assertEquals("\"birthDateFrom\" date should be before \"birthDateTo\" date.",
+                exception.getMessage());
+    }
+}
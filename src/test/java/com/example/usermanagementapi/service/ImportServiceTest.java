@@ -0,0 +1,176 @@
+package com.example.usermanagementapi.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.usermanagementapi.dto.UserRequestDto;
+import com.example.usermanagementapi.importer.ImportJob;
+import com.example.usermanagementapi.importer.ImportJobStatus;
+import com.example.usermanagementapi.mapper.UserRequestDtoMapper;
+import com.example.usermanagementapi.model.BatchResult;
+import com.example.usermanagementapi.model.User;
+import com.example.usermanagementapi.service.impl.ImportServiceImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.validation.Validation;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockMultipartFile;
+
+class ImportServiceTest {
+    @TempDir
+    private Path directory;
+    private UserService userService;
+    private ImportServiceImpl importService;
+
+    @BeforeEach
+    void setUp() {
+        userService = Mockito.mock(UserService.class);
+        UserRequestDtoMapper requestDtoMapper = Mockito.mock(UserRequestDtoMapper.class);
+        when(requestDtoMapper.mapToModel(any())).thenAnswer(invocation -> {
+            UserRequestDto dto = invocation.getArgument(0);
+            return User.builder()
+                    .email(dto.getEmail())
+                    .birthDate(dto.getBirthDate()).build();
+        });
+        importService = new ImportServiceImpl(userService, requestDtoMapper,
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                new ObjectMapper().registerModule(new JavaTimeModule()), directory, 2, 2, 1, 1,
+                Duration.ofHours(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        importService.shutdown();
+    }
+
+    @Test
+    void submit_csv_importsValidRowsAndReportsRejectedOnes() throws Exception {
+        when(userService.createAll(anyList())).thenAnswer(invocation -> {
+            List<User> users = invocation.getArgument(0);
+            return users.stream()
+                    .map(user -> user.getEmail().startsWith("taken")
+                            ? BatchResult.failure(null, HttpStatus.BAD_REQUEST,
+                                    "A user with this email already exists.")
+                            : BatchResult.success(user, HttpStatus.CREATED))
+                    .toList();
+        });
+        ImportJob job = importService.submit(file("users.csv",
+                "email,firstName,lastName,birthDate",
+                "vlad@gmail.com,Vlad,Duncan,1995-05-02",
+                "invalid,Vlad,Duncan,1995-05-02",
+                "taken@gmail.com,Vlad,Duncan,1995-05-02",
+                "ann@gmail.com,Ann,Duncan,1996-05-02",
+                "victor@gmail.com,,Don,1997-05-02"), null);
+        awaitFinished(job);
+
+        assertEquals(ImportJobStatus.COMPLETED, job.getStatus());
+        assertEquals(5, job.getReadRows());
+        assertEquals(2, job.getImportedRows());
+        assertEquals(3, job.getRejectedRows());
+        verify(userService, times(2)).createAll(anyList());
+        assertFalse(Files.exists(job.getFile()));
+        List<String> rejectedRows = Files.readAllLines(job.getRejectedRowsFile());
+        assertEquals(3, rejectedRows.size());
+        assertTrue(rejectedRows.contains("{\"line\":3,\"row\":\"invalid,Vlad,Duncan,1995-05-02\","
+                + "\"errorMessage\":\"Invalid email\"}"));
+        assertTrue(rejectedRows.contains("{\"line\":4,\"row\":\"taken@gmail.com,Vlad,Duncan,"
+                + "1995-05-02\",\"errorMessage\":\"A user with this email already exists.\"}"));
+        assertTrue(rejectedRows.contains("{\"line\":6,\"row\":\"victor@gmail.com,,Don,1997-05-02\","
+                + "\"errorMessage\":\"First name is required\"}"));
+    }
+
+    @Test
+    void submit_csvRowWithoutBirthDate_rejectedAlone() throws Exception {
+        when(userService.createAll(anyList())).thenAnswer(invocation -> {
+            List<User> users = invocation.getArgument(0);
+            return users.stream()
+                    .map(user -> BatchResult.success(user, HttpStatus.CREATED))
+                    .toList();
+        });
+        ImportJob job = importService.submit(file("users.csv",
+                "email,firstName,lastName,birthDate",
+                "vlad@gmail.com,Vlad,Duncan,1995-05-02",
+                "ann@gmail.com,Ann,Duncan,"), null);
+        awaitFinished(job);
+
+        assertEquals(ImportJobStatus.COMPLETED, job.getStatus());
+        assertEquals(1, job.getImportedRows());
+        assertEquals(1, job.getRejectedRows());
+        assertEquals(List.of("{\"line\":3,\"row\":\"ann@gmail.com,Ann,Duncan,\","
+                        + "\"errorMessage\":\"Birth date is required\"}"),
+                Files.readAllLines(job.getRejectedRowsFile()));
+    }
+
+    @Test
+    void submit_writeFails_everyRowOfTheChunkReported() throws Exception {
+        when(userService.createAll(anyList())).thenThrow(new IllegalStateException("down"));
+        ImportJob job = importService.submit(file("users.ndjson",
+                "{\"email\":\"vlad@gmail.com\",\"firstName\":\"Vlad\",\"lastName\":\"Duncan\","
+                        + "\"birthDate\":\"1995-05-02\"}",
+                "null"), null);
+        awaitFinished(job);
+
+        assertEquals(ImportJobStatus.COMPLETED, job.getStatus());
+        assertEquals(2, job.getReadRows());
+        assertEquals(2, job.getProcessedRows());
+        assertEquals(2, job.getRejectedRows());
+        List<String> rejectedRows = Files.readAllLines(job.getRejectedRowsFile());
+        assertTrue(rejectedRows.contains("{\"line\":2,\"row\":\"null\","
+                + "\"errorMessage\":\"Row must be a JSON object\"}"));
+        assertTrue(rejectedRows.get(0).endsWith("\"errorMessage\":\"Can't save the user: down\"}"));
+    }
+
+    @Test
+    void submit_invalidCsvHeader_failed() throws Exception {
+        ImportJob job = importService.submit(file("users.csv", "email"), null);
+        awaitFinished(job);
+        assertEquals(ImportJobStatus.FAILED, job.getStatus());
+        assertEquals("CSV header must contain the email, firstName, lastName and birthDate "
+                + "columns.", job.getErrorMessage());
+    }
+
+    @Test
+    void submit_unsupportedFormat_notOk() {
+        assertThrows(IllegalArgumentException.class,
+                () -> importService.submit(file("users.xml", "<users/>"), null));
+        assertThrows(IllegalArgumentException.class,
+                () -> importService.submit(file("users.csv", ""), "xml"));
+    }
+
+    @Test
+    void get_unknownJob_notOk() {
+        EntityNotFoundException exception = assertThrows(EntityNotFoundException.class,
+                () -> importService.get("unknown"));
+        assertEquals("Import job not found with this id: unknown", exception.getMessage());
+    }
+
+    private MockMultipartFile file(String name, String... lines) {
+        return new MockMultipartFile("file", name, null,
+                String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void awaitFinished(ImportJob job) throws InterruptedException {
+        for (int i = 0; i < 100 && !job.isFinished(); i++) {
+            Thread.sleep(50);
+        }
+        assertTrue(job.isFinished());
+    }
+}
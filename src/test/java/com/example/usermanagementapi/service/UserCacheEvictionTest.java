@@ -0,0 +1,98 @@
+package com.example.usermanagementapi.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.usermanagementapi.config.CacheConfig;
+import com.example.usermanagementapi.model.User;
+import com.example.usermanagementapi.repository.UserRepository;
+import java.time.LocalDate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.BeanFactoryCacheOperationSourceAdvisor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.interceptor.BeanFactoryTransactionAttributeSourceAdvisor;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest
+class UserCacheEvictionTest {
+    private static final LocalDate BIRTH_DATE = LocalDate.of(1995, 5, 2);
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private UserResponseService userResponseService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CacheManager cacheManager;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private BeanFactoryCacheOperationSourceAdvisor cacheAdvisor;
+    @Autowired
+    private BeanFactoryTransactionAttributeSourceAdvisor transactionAdvisor;
+    private Cache usersCache;
+    private Long id;
+
+    @BeforeEach
+    void setUp() {
+        usersCache = cacheManager.getCache(CacheConfig.USERS_CACHE);
+        id = userService.create(user("Vlad")).getId();
+        userResponseService.get(id);
+        assertNotNull(usersCache.get(id));
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+        usersCache.clear();
+    }
+
+    @Test
+    void cacheAdvisor_runsOutsideTransactionAdvisor() {
+        assertTrue(cacheAdvisor.getOrder() < transactionAdvisor.getOrder());
+    }
+
+    @Test
+    void update_withoutOuterTransaction_evictedAfterCommit() {
+        userService.update(user("Victor"), id);
+        assertNull(usersCache.get(id));
+        assertEquals("Victor", userResponseService.get(id).getFirstName());
+    }
+
+    @Test
+    void update_insideOuterTransaction_evictedOnlyOnCommit() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            userService.update(user("Victor"), id);
+            assertNotNull(usersCache.get(id));
+        });
+        assertNull(usersCache.get(id));
+        assertEquals("Victor", userResponseService.get(id).getFirstName());
+    }
+
+    @Test
+    void update_rolledBack_cacheKept() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            userService.update(user("Victor"), id);
+            status.setRollbackOnly();
+        });
+        assertNotNull(usersCache.get(id));
+        assertEquals("Vlad", userResponseService.get(id).getFirstName());
+    }
+
+    private static User user(String firstName) {
+        return User.builder()
+                .email("vladDuncan@gmail.com")
+                .firstName(firstName)
+                .lastName("Duncan")
+                .birthDate(BIRTH_DATE)
+                .build();
+    }
+}
@@ -0,0 +1,161 @@
+package com.example.usermanagementapi.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.usermanagementapi.config.CacheConfig;
+import com.example.usermanagementapi.dto.UserResponseDto;
+import com.example.usermanagementapi.index.UserSearchIndex;
+import com.example.usermanagementapi.metrics.UserMetrics;
+import com.example.usermanagementapi.model.User;
+import com.example.usermanagementapi.repository.UserRepository;
+import com.example.usermanagementapi.service.impl.UserResponseServiceImpl;
+import jakarta.persistence.EntityNotFoundException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+@SpringJUnitConfig
+class UserResponseServiceTest {
+    private static final Long ID = 1L;
+    private UserResponseDto userResponseDto;
+    @Autowired
+    private UserResponseService userResponseService;
+    @Autowired
+    private CacheManager cacheManager;
+    @Autowired
+    private UserSearchIndex userSearchIndex;
+    @MockBean
+    private UserRepository userRepository;
+    @MockBean
+    private UserMetrics userMetrics;
+
+    @BeforeEach
+    void setUp() {
+        userResponseDto = UserResponseDto.builder()
+                .id(ID)
+                .firstName("Vlad")
+                .lastName("Duncan")
+                .email("vladDuncan@gmail.com")
+                .birthDate(LocalDate.of(1995, 5, 2)).build();
+        cacheManager.getCache(CacheConfig.USERS_CACHE).clear();
+        cacheManager.getCache(CacheConfig.USER_COUNTS_CACHE).clear();
+        userSearchIndex.warmUp();
+    }
+
+    @Test
+    void get_repeatedReads_servedFromCache() {
+        when(userRepository.findResponseDtoById(ID)).thenReturn(Optional.of(userResponseDto));
+        assertEquals(userResponseDto, userResponseService.get(ID));
+        assertEquals(userResponseDto, userResponseService.get(ID));
+        verify(userRepository, times(1)).findResponseDtoById(ID);
+    }
+
+    @Test
+    void get_afterEviction_readsAgain() {
+        when(userRepository.findResponseDtoById(ID)).thenReturn(Optional.of(userResponseDto));
+        userResponseService.get(ID);
+        cacheManager.getCache(CacheConfig.USERS_CACHE).evict(ID);
+        userResponseService.get(ID);
+        verify(userRepository, times(2)).findResponseDtoById(ID);
+    }
+
+    @Test
+    void get_withNotExistId_notOk() {
+        when(userRepository.findResponseDtoById(ID)).thenReturn(Optional.empty());
+        EntityNotFoundException exception = assertThrows(EntityNotFoundException.class,
+                () -> userResponseService.get(ID));
+        assertEquals("User not found with this id: " + ID, exception.getMessage());
+        verify(userMetrics).userNotFound();
+    }
+
+    @Test
+    void getByEmail_normalizesEmail_ok() {
+        when(userRepository.findResponseDtoByNormalizedEmail("vladduncan@gmail.com"))
+                .thenReturn(Optional.of(userResponseDto));
+        assertEquals(userResponseDto, userResponseService.getByEmail(" VladDuncan@gmail.com"));
+    }
+
+    @Test
+    void getByEmail_withNotExistEmail_notOk() {
+        when(userRepository.findResponseDtoByNormalizedEmail("victordon@gmail.com"))
+                .thenReturn(Optional.empty());
+        EntityNotFoundException exception = assertThrows(EntityNotFoundException.class,
+                () -> userResponseService.getByEmail("victorDon@gmail.com"));
+        assertEquals("User not found with this email: victorDon@gmail.com",
+                exception.getMessage());
+        verify(userMetrics).userNotFound();
+    }
+
+    @Test
+    void countByBirthDateBetween_repeatedWindow_servedFromCache() {
+        final LocalDate from = LocalDate.of(1990, 1, 1);
+        final LocalDate to = LocalDate.of(2000, 1, 1);
+        when(userRepository.countByBirthDateBetween(from, to)).thenReturn(2L);
+        assertEquals(2L, userResponseService.countByBirthDateBetween(from, to));
+        assertEquals(2L, userResponseService.countByBirthDateBetween(from, to));
+        verify(userRepository, times(1)).countByBirthDateBetween(from, to);
+    }
+
+    @Test
+    void countByBirthDateBetween_differentWindows_cachedSeparately() {
+        final LocalDate from = LocalDate.of(1990, 1, 1);
+        when(userRepository.countByBirthDateBetween(from, LocalDate.of(2000, 1, 1)))
+                .thenReturn(2L);
+        when(userRepository.countByBirthDateBetween(from, LocalDate.of(2010, 1, 1)))
+                .thenReturn(5L);
+        assertEquals(2L, userResponseService.countByBirthDateBetween(from,
+                LocalDate.of(2000, 1, 1)));
+        assertEquals(5L, userResponseService.countByBirthDateBetween(from,
+                LocalDate.of(2010, 1, 1)));
+    }
+
+    @Test
+    void search_returnsUsersInScoreOrder_ok() {
+        UserResponseDto secondUser = UserResponseDto.builder()
+                .id(2L)
+                .firstName("Vladislav")
+                .lastName("Duncan").build();
+        userSearchIndex.add(User.builder()
+                .id(ID)
+                .firstName("Vlad")
+                .lastName("Duncan").build());
+        userSearchIndex.add(User.builder()
+                .id(2L)
+                .firstName("Vladislav")
+                .lastName("Duncan").build());
+        when(userRepository.findResponseDtosByIdIn(List.of(ID, 2L)))
+                .thenReturn(List.of(secondUser, userResponseDto));
+
+        Slice<UserResponseDto> users = userResponseService.search("vlad duncan",
+                PageRequest.of(0, 10));
+        assertEquals(List.of(userResponseDto, secondUser), users.getContent());
+        assertTrue(userResponseService.search("victor", PageRequest.of(0, 10)).isEmpty());
+    }
+
+    @Configuration
+    @Import({CacheConfig.class, UserResponseServiceImpl.class, UserSearchIndex.class})
+    static class Config {
+        @Bean
+        CacheManager cacheManager() {
+            return new CaffeineCacheManager(CacheConfig.USERS_CACHE,
+                    CacheConfig.USER_COUNTS_CACHE);
+        }
+    }
+}
@@ -2,23 +2,46 @@ package com.example.usermanagementapi.service;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.example.usermanagementapi.index.EmailIndex;
+import com.example.usermanagementapi.index.UserSearchIndex;
+import com.example.usermanagementapi.metrics.UserMetrics;
+import com.example.usermanagementapi.model.BatchResult;
 import com.example.usermanagementapi.model.User;
 import com.example.usermanagementapi.repository.UserRepository;
+import com.example.usermanagementapi.repository.specification.UserFilterPlanner;
 import com.example.usermanagementapi.service.impl.UserServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
 import org.mockito.Mockito;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.HttpStatus;
 
 class UserServiceTest {
     private static final int USER_AGE_LIMIT = 18;
@@ -26,6 +49,9 @@ class UserServiceTest {
     private static final LocalDate BIRTHDAY_DATE_LESS_THAN_LIMIT = LocalDate.of(2018, 5, 2);
     private User user;
     private UserRepository userRepository;
+    private EntityManager entityManager;
+    private SimpleMeterRegistry meterRegistry;
+    private EmailIndex emailIndex;
     private UserService userService;
 
     @BeforeEach
@@ -37,7 +63,12 @@ class UserServiceTest {
         user.setEmail("vladDuncan@gmail.com");
         user.setBirthDate(CORRECT_BIRTHDAY_DATE);
         userRepository = Mockito.mock(UserRepository.class);
-        userService = new UserServiceImpl(USER_AGE_LIMIT, userRepository);
+        entityManager = Mockito.mock(EntityManager.class);
+        meterRegistry = new SimpleMeterRegistry();
+        emailIndex = new EmailIndex(userRepository, 1000, 0.01);
+        userService = new UserServiceImpl(USER_AGE_LIMIT, userRepository, entityManager,
+                new UserMetrics(meterRegistry), emailIndex, new UserSearchIndex(userRepository),
+                new UserFilterPlanner(true));
     }
 
     @Test
@@ -69,6 +100,159 @@ class UserServiceTest {
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
                 () -> userService.create(user));
         assertEquals(message, exception.getMessage());
+        assertEquals(1, meterRegistry.counter("users.rejected", "reason", "age_limit").count());
+    }
+
+    @Test
+    void create_emailNotInIndex_skipsLookup() {
+        when(userRepository.save(user)).thenReturn(user);
+        userService.create(user);
+        verify(userRepository, times(0)).existsByNormalizedEmail("vladduncan@gmail.com");
+        assertTrue(emailIndex.mightContain(user.getEmail().toUpperCase()));
+    }
+
+    @Test
+    void create_emailInIndexAndTaken_notOk() {
+        emailIndex.add(user.getEmail());
+        when(userRepository.existsByNormalizedEmail("vladduncan@gmail.com")).thenReturn(true);
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> userService.create(user));
+        assertEquals("A user with this email already exists.", exception.getMessage());
+        verify(userRepository, times(0)).save(user);
+        assertEquals(1, meterRegistry.counter("users.rejected", "reason", "duplicate_email")
+                .count());
+    }
+
+    @Test
+    void create_emailInIndexButFree_ok() {
+        emailIndex.add(user.getEmail());
+        when(userRepository.existsByNormalizedEmail("vladduncan@gmail.com")).thenReturn(false);
+        when(userRepository.save(user)).thenReturn(user);
+        assertEquals(user, userService.create(user));
+    }
+
+    @Test
+    void createAll_rejectsUnderageAndDuplicateEmails_ok() {
+        final User underageUser = User.builder()
+                .email("young@gmail.com")
+                .birthDate(BIRTHDAY_DATE_LESS_THAN_LIMIT).build();
+        User existingEmailUser = User.builder()
+                .email("taken@gmail.com")
+                .birthDate(CORRECT_BIRTHDAY_DATE).build();
+        final User sameEmailUser = User.builder()
+                .email(user.getEmail().toUpperCase())
+                .birthDate(CORRECT_BIRTHDAY_DATE).build();
+        emailIndex.add(existingEmailUser.getEmail());
+        when(userRepository.findNormalizedEmailsIn(List.of(existingEmailUser.getEmail())))
+                .thenReturn(Set.of(existingEmailUser.getEmail()));
+        when(userRepository.saveAll(List.of(user))).thenReturn(List.of(user));
+
+        List<BatchResult> results = userService.createAll(List.of(user, underageUser,
+                existingEmailUser, sameEmailUser));
+        assertEquals(4, results.size());
+        assertEquals(HttpStatus.CREATED, results.get(0).getHttpStatus());
+        assertEquals(user, results.get(0).getUser());
+        assertEquals(HttpStatus.BAD_REQUEST, results.get(1).getHttpStatus());
+        assertEquals("Can't register the user who is younger than 18 years old",
+                results.get(1).getErrorMessage());
+        assertEquals("A user with this email already exists.", results.get(2).getErrorMessage());
+        assertEquals("A user with this email already exists.", results.get(3).getErrorMessage());
+        assertEquals(1, meterRegistry.counter("users.rejected", "reason", "age_limit").count());
+        assertEquals(2, meterRegistry.counter("users.rejected", "reason", "duplicate_email")
+                .count());
+    }
+
+    @Test
+    void createAll_batchInsertFails_savesEachSeparately() {
+        User secondUser = User.builder()
+                .email("second@gmail.com")
+                .birthDate(CORRECT_BIRTHDAY_DATE).build();
+        when(userRepository.saveAll(List.of(user, secondUser)))
+                .thenThrow(DataIntegrityViolationException.class);
+        when(userRepository.save(user)).thenThrow(new DataIntegrityViolationException(
+                "Unique index or primary key violation: \"PUBLIC.UK_USERS_NORMALIZED_EMAIL\""));
+        when(userRepository.save(secondUser)).thenReturn(secondUser);
+
+        List<BatchResult> results = userService.createAll(List.of(user, secondUser));
+        verify(userRepository, times(0)).findNormalizedEmailsIn(any());
+        assertEquals(HttpStatus.BAD_REQUEST, results.get(0).getHttpStatus());
+        assertEquals("A user with this email already exists.", results.get(0).getErrorMessage());
+        assertEquals(HttpStatus.CREATED, results.get(1).getHttpStatus());
+        assertEquals(secondUser, results.get(1).getUser());
+    }
+
+    @Test
+    void particularUpdateAll_mixedResults_ok() {
+        User existingUser = User.builder()
+                .id(2L)
+                .email("taken@gmail.com")
+                .normalizedEmail("taken@gmail.com")
+                .birthDate(CORRECT_BIRTHDAY_DATE).build();
+        User underagePatch = User.builder()
+                .id(1L)
+                .birthDate(BIRTHDAY_DATE_LESS_THAN_LIMIT).build();
+        User emailPatch = User.builder()
+                .id(3L)
+                .email("TAKEN@gmail.com").build();
+        User thirdUser = User.builder()
+                .id(3L)
+                .email("third@gmail.com")
+                .birthDate(CORRECT_BIRTHDAY_DATE).build();
+        final User renamePatch = User.builder()
+                .id(2L)
+                .firstName("Renamed").build();
+        final User missingPatch = User.builder()
+                .id(4L)
+                .firstName("Missing").build();
+        when(userRepository.findAllById(List.of(1L, 3L, 2L, 4L)))
+                .thenReturn(List.of(user, existingUser, thirdUser));
+        when(userRepository.findByNormalizedEmailIn(List.of("taken@gmail.com")))
+                .thenReturn(List.of(existingUser));
+
+        List<BatchResult> results = userService.particularUpdateAll(List.of(underagePatch,
+                emailPatch, renamePatch, missingPatch));
+        assertEquals(HttpStatus.BAD_REQUEST, results.get(0).getHttpStatus());
+        assertEquals("Can't register the user who is younger than 18 years old",
+                results.get(0).getErrorMessage());
+        assertEquals(HttpStatus.BAD_REQUEST, results.get(1).getHttpStatus());
+        assertEquals("A user with this email already exists.", results.get(1).getErrorMessage());
+        assertEquals(HttpStatus.OK, results.get(2).getHttpStatus());
+        assertEquals("Renamed", results.get(2).getUser().getFirstName());
+        assertEquals(HttpStatus.NOT_FOUND, results.get(3).getHttpStatus());
+        assertEquals("User not found with this id: 4", results.get(3).getErrorMessage());
+        verify(entityManager, times(1)).detach(user);
+        verify(entityManager, times(1)).detach(thirdUser);
+        verify(userRepository, times(1)).flush();
+    }
+
+    @Test
+    void particularUpdateAll_missingOrRepeatedId_notOk() {
+        User patch = User.builder()
+                .firstName("Renamed").build();
+        User repeatedPatch = User.builder()
+                .id(1L)
+                .lastName("Renamed").build();
+        when(userRepository.findAllById(List.of(1L, 1L))).thenReturn(List.of(user));
+
+        List<BatchResult> results = userService.particularUpdateAll(List.of(patch,
+                repeatedPatch, repeatedPatch));
+        assertEquals("User id is required.", results.get(0).getErrorMessage());
+        assertEquals(HttpStatus.OK, results.get(1).getHttpStatus());
+        assertEquals(HttpStatus.BAD_REQUEST, results.get(2).getHttpStatus());
+        assertEquals("User id is repeated in the batch.", results.get(2).getErrorMessage());
+    }
+
+    @Test
+    void deleteAll_ok() {
+        when(userRepository.findIdsByIdIn(List.of(1L, 2L))).thenReturn(Set.of(1L));
+
+        List<BatchResult> results = userService.deleteAll(List.of(1L, 2L, 1L));
+        verify(userRepository, times(1)).deleteUsersByIdIn(Set.of(1L));
+        assertEquals(3, results.size());
+        assertEquals(HttpStatus.NO_CONTENT, results.get(0).getHttpStatus());
+        assertEquals(HttpStatus.NOT_FOUND, results.get(1).getHttpStatus());
+        assertEquals("User not found with this id: 2", results.get(1).getErrorMessage());
+        assertEquals(HttpStatus.NO_CONTENT, results.get(2).getHttpStatus());
     }
 
     @Test
@@ -91,6 +275,7 @@ class UserServiceTest {
         EntityNotFoundException exception = assertThrows(EntityNotFoundException.class,
                 () -> userService.get(id));
         assertEquals(message, exception.getMessage());
+        assertEquals(1, meterRegistry.counter("users.not.found").count());
     }
 
     @Test
@@ -103,10 +288,39 @@ class UserServiceTest {
         updateUser.setBirthDate(CORRECT_BIRTHDAY_DATE);
         updateUser.setAddress("Mazepa 117, Ivano-Frankivsk, Ukraine");
         updateUser.setPhoneNumber("+380991102224");
-        when(userRepository.findById(id)).thenReturn(Optional.of(user));
+        when(userRepository.updateById(id, updateUser)).thenReturn(1);
+        when(userRepository.findVersionById(id)).thenReturn(4L);
         userService.update(updateUser, id);
-        verify(userRepository, times(1)).save(updateUser);
+        verify(userRepository, times(1)).updateById(id, updateUser);
+        verify(userRepository, times(0)).findById(id);
         assertEquals(id, updateUser.getId());
+        assertEquals(4L, updateUser.getVersion());
+    }
+
+    @Test
+    void update_withVersion_returnsNextVersion() {
+        final Long id = 1L;
+        user.setVersion(2L);
+        when(userRepository.updateById(id, user)).thenReturn(1);
+        assertEquals(3L, userService.update(user, id).getVersion());
+    }
+
+    @Test
+    void update_staleVersion_notOk() {
+        final Long id = 1L;
+        user.setVersion(2L);
+        when(userRepository.updateById(id, user)).thenReturn(0);
+        when(userRepository.existsById(id)).thenReturn(true);
+        assertThrows(OptimisticLockingFailureException.class, () -> userService.update(user, id));
+    }
+
+    @Test
+    void update_nothingUpdated_notOk() {
+        Long id = 500L;
+        when(userRepository.updateById(id, user)).thenReturn(0);
+        EntityNotFoundException exception = assertThrows(EntityNotFoundException.class,
+                () -> userService.update(user, id));
+        assertEquals("User not found with this id: " + id, exception.getMessage());
     }
 
     @Test
@@ -141,11 +355,40 @@ class UserServiceTest {
         particularUpdayeUser.setLastName("particularUpdateName");
         when(userRepository.findById(id)).thenReturn(Optional.of(user));
         userService.particularUpdateUser(particularUpdayeUser, id);
+        verify(userRepository, times(0)).save(user);
         assertEquals("Vlad", user.getFirstName());
         assertEquals("particularUpdateName", user.getLastName());
         assertEquals("vladDuncan@gmail.com", user.getEmail());
     }
 
+    @Test
+    void particularUpdateUser_nothingChanged_skipsValidation() {
+        final Long id = 1L;
+        user.setBirthDate(BIRTHDAY_DATE_LESS_THAN_LIMIT);
+        User particularUpdateUser = new User();
+        particularUpdateUser.setFirstName(user.getFirstName());
+        particularUpdateUser.setBirthDate(user.getBirthDate());
+        particularUpdateUser.setAddress(" ");
+        when(userRepository.findById(id)).thenReturn(Optional.of(user));
+        User actualUser = assertDoesNotThrow(() -> userService
+                .particularUpdateUser(particularUpdateUser, id));
+        assertEquals(user, actualUser);
+        assertEquals(null, actualUser.getAddress());
+    }
+
+    @Test
+    void particularUpdateUser_staleVersion_notOk() {
+        final Long id = 1L;
+        user.setVersion(3L);
+        User particularUpdateUser = new User();
+        particularUpdateUser.setLastName("particularUpdateName");
+        particularUpdateUser.setVersion(2L);
+        when(userRepository.findById(id)).thenReturn(Optional.of(user));
+        assertThrows(OptimisticLockingFailureException.class,
+                () -> userService.particularUpdateUser(particularUpdateUser, id));
+        assertEquals("Duncan", user.getLastName());
+    }
+
     @Test
     void particularUpdateUser_withAgeLessThanAvailable_notOk() {
         Long id = 1L;
@@ -171,35 +414,78 @@ class UserServiceTest {
     @Test
     void delete_ok() {
         Long id = 1L;
-        assertDoesNotThrow(() -> userService.delete(id));
-        verify(userRepository, times(1)).deleteById(id);
+        when(userRepository.deleteUserById(id, null)).thenReturn(1);
+        assertDoesNotThrow(() -> userService.delete(id, null));
+        verify(userRepository, times(1)).deleteUserById(id, null);
+    }
+
+    @Test
+    void delete_nothingDeleted_notOk() {
+        Long id = 333L;
+        when(userRepository.deleteUserById(id, null)).thenReturn(0);
+        EntityNotFoundException exception = assertThrows(EntityNotFoundException.class,
+                () -> userService.delete(id, null));
+        assertEquals("User not found with this id: " + id, exception.getMessage());
+    }
+
+    @Test
+    void delete_staleVersion_notOk() {
+        final Long id = 1L;
+        when(userRepository.deleteUserById(id, 2L)).thenReturn(0);
+        when(userRepository.existsById(id)).thenReturn(true);
+        assertThrows(OptimisticLockingFailureException.class, () -> userService.delete(id, 2L));
+    }
+
+    @Test
+    void scrollUsersByBirthDateBetween_moreRowsThanCount_hasNext() {
+        final LocalDate from = LocalDate.of(1900, 1, 1);
+        final LocalDate to = LocalDate.of(1999, 1, 1);
+        User secondUser = new User();
+        secondUser.setId(2L);
+        secondUser.setBirthDate(LocalDate.of(1996, 5, 2));
+        when(userRepository.findBy(ArgumentMatchers.<Specification<User>>any(), any()))
+                .thenReturn(List.of(user, secondUser));
+
+        Window<User> users = userService.scrollUsersByBirthDateBetween(from, to,
+                Sort.by("birthDate"), ScrollPosition.keyset(), 1);
+        assertEquals(1, users.size());
+        assertTrue(users.hasNext());
+        KeysetScrollPosition position = (KeysetScrollPosition) users.positionAt(0);
+        assertEquals(Map.of("birthDate", CORRECT_BIRTHDAY_DATE, "id", 1L), position.getKeys());
     }
 
     @Test
-    void getAllUsersByBirthDateBetween_ok() {
+    void scrollUsersByBirthDateBetween_lastPage_hasNoNext() {
         final LocalDate from = LocalDate.of(1900, 1, 1);
         final LocalDate to = LocalDate.of(1999, 1, 1);
+        when(userRepository.findBy(ArgumentMatchers.<Specification<User>>any(), any()))
+                .thenReturn(List.of(user));
+
+        Window<User> users = userService.scrollUsersByBirthDateBetween(from, to,
+                Sort.by("birthDate"), ScrollPosition.forward(Map.of("birthDate",
+                        CORRECT_BIRTHDAY_DATE, "id", 1L)), 10);
+        assertEquals(1, users.size());
+        assertFalse(users.hasNext());
+    }
 
+    @Test
+    void exportUsersByBirthDateBetween_detachesExportedUsers_ok() {
+        final LocalDate from = LocalDate.of(1900, 1, 1);
+        final LocalDate to = LocalDate.of(1999, 1, 1);
         User secondUser = new User();
         secondUser.setId(2L);
-        secondUser.setBirthDate(LocalDate.of(2000, 5, 2));
-        secondUser.setFirstName("TestName1");
-        secondUser.setLastName("Test1");
-        secondUser.setEmail("test1@gmail.com");
-
-        User thirdUser = new User();
-        thirdUser.setId(3L);
-        thirdUser.setBirthDate(LocalDate.of(1991, 5, 2));
-        thirdUser.setFirstName("TestName2");
-        thirdUser.setLastName("Test2");
-        thirdUser.setEmail("test2@gmail.com");
-
-        PageRequest pageRequest = PageRequest.of(0, 10);
-        when(userRepository.findByBirthDateBetween(from, to, pageRequest))
-                .thenReturn(List.of(user, thirdUser));
-
-        List<User> users = userService.getAllUsersByBirthDateBetween(from, to, pageRequest);
-        assertNotNull(users);
-        assertEquals(2, users.size());
+        Session session = Mockito.mock(Session.class);
+        when(entityManager.unwrap(Session.class)).thenReturn(session);
+        when(session.getCacheMode()).thenReturn(CacheMode.NORMAL);
+        when(userRepository.streamByBirthDateBetweenOrderByBirthDateAscIdAsc(from, to))
+                .thenReturn(Stream.of(user, secondUser));
+
+        List<User> exported = new ArrayList<>();
+        userService.exportUsersByBirthDateBetween(from, to, exported::add);
+        assertEquals(List.of(user, secondUser), exported);
+        verify(entityManager, times(1)).detach(user);
+        verify(entityManager, times(1)).detach(secondUser);
+        verify(session).setCacheMode(CacheMode.IGNORE);
+        verify(session).setCacheMode(CacheMode.NORMAL);
     }
 }
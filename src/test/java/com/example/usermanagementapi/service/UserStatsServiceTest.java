@@ -0,0 +1,59 @@
+package com.example.usermanagementapi.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+import com.example.usermanagementapi.dto.AgeBucketDto;
+import com.example.usermanagementapi.dto.UserStatsDto;
+import com.example.usermanagementapi.index.BirthDateHistogram;
+import com.example.usermanagementapi.model.BirthDateCount;
+import com.example.usermanagementapi.repository.UserRepository;
+import com.example.usermanagementapi.service.impl.UserStatsServiceImpl;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+class UserStatsServiceTest {
+    private static final int USER_AGE_LIMIT = 18;
+
+    @Test
+    void getStats_bucketsByAgeFromAgeLimit_ok() {
+        final LocalDate today = LocalDate.now();
+        final LocalDate justAdult = today.minusYears(18);
+        final LocalDate almostTwentyEight = today.minusYears(28).plusDays(1);
+        final LocalDate twentyEight = today.minusYears(28);
+        final LocalDate underage = today.minusYears(10);
+        UserRepository userRepository = Mockito.mock(UserRepository.class);
+        when(userRepository.countAllByBirthDate()).thenReturn(List.of(
+                new BirthDateCount(justAdult, 2),
+                new BirthDateCount(almostTwentyEight, 1),
+                new BirthDateCount(twentyEight, 3),
+                new BirthDateCount(underage, 1)));
+        BirthDateHistogram birthDateHistogram = new BirthDateHistogram(userRepository);
+        birthDateHistogram.refresh();
+        UserStatsService userStatsService = new UserStatsServiceImpl(USER_AGE_LIMIT, 10,
+                birthDateHistogram);
+
+        UserStatsDto stats = userStatsService.getStats();
+        assertEquals(7, stats.getTotalUsers());
+        assertEquals(1, stats.getUnderAgeLimitUsers());
+        assertEquals(USER_AGE_LIMIT, stats.getAgeLimit());
+        assertEquals(List.of(new AgeBucketDto(18, 27, 3), new AgeBucketDto(28, 37, 3)),
+                stats.getAgeBuckets());
+        assertEquals(7, stats.getBirthYears().values().stream().mapToLong(Long::longValue).sum());
+        assertEquals(1L, stats.getBirthYears().get(underage.getYear()));
+        assertEquals(birthDateHistogram.refreshedAt(), stats.getRefreshedAt());
+    }
+
+    @Test
+    void getStats_noUsers_emptyHistograms() {
+        UserRepository userRepository = Mockito.mock(UserRepository.class);
+        UserStatsDto stats = new UserStatsServiceImpl(USER_AGE_LIMIT, 10,
+                new BirthDateHistogram(userRepository)).getStats();
+        assertEquals(0, stats.getTotalUsers());
+        assertEquals(List.of(), stats.getAgeBuckets());
+        assertEquals(Map.of(), stats.getBirthYears());
+    }
+}
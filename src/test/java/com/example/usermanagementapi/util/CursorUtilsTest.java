@@ -0,0 +1,48 @@
+package com.example.usermanagementapi.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+class CursorUtilsTest {
+    private static final Sort SORT = Sort.by("birthDate", "lastName");
+    private static final Map<String, Object> KEYS = Map.of(
+            "birthDate", LocalDate.of(1995, 5, 2),
+            "lastName", "Duncan",
+            "id", 42L);
+
+    @Test
+    void decode_encodedPosition_ok() {
+        String cursor = CursorUtils.encode(ScrollPosition.forward(KEYS));
+        KeysetScrollPosition position = CursorUtils.decode(cursor, SORT);
+        assertEquals(KEYS, position.getKeys());
+        assertTrue(position.scrollsForward());
+    }
+
+    @Test
+    void decode_emptyCursor_initialPosition() {
+        assertTrue(CursorUtils.decode("", SORT).isInitial());
+    }
+
+    @Test
+    void decode_malformedCursor_notOk() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> CursorUtils.decode("not a cursor", SORT));
+        assertEquals("Invalid cursor.", exception.getMessage());
+    }
+
+    @Test
+    void decode_cursorOfAnotherSort_notOk() {
+        String cursor = CursorUtils.encode(ScrollPosition.forward(KEYS));
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> CursorUtils.decode(cursor, Sort.by("email")));
+        assertEquals("Cursor doesn't match the requested sortBy.", exception.getMessage());
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.usermanagementapi.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+class SortUtilsTest {
+    private final SortUtils sortUtils = new SortUtils();
+
+    @Test
+    void createSort_singleField_defaultsToDesc() {
+        assertEquals(Sort.by(Sort.Direction.DESC, "id"), sortUtils.createSort("id"));
+    }
+
+    @Test
+    void createSort_severalFields_ok() {
+        Sort expected = Sort.by(Sort.Order.asc("birthDate"), Sort.Order.desc("lastName"),
+                Sort.Order.desc("id"));
+        assertEquals(expected, sortUtils.createSort("birthDate:asc;lastName:DESC;id"));
+    }
+
+    @Test
+    void createSort_sameInput_cached() {
+        assertSame(sortUtils.createSort("lastName:ASC"), sortUtils.createSort("lastName:ASC"));
+    }
+
+    @Test
+    void createSort_unknownField_notOk() {
+        assertThrows(IllegalArgumentException.class, () -> sortUtils.createSort("address"));
+        assertThrows(IllegalArgumentException.class, () -> sortUtils.createSort("email"));
+        assertThrows(IllegalArgumentException.class, () -> sortUtils.createSort(""));
+    }
+
+    @Test
+    void createSort_invalidDirection_notOk() {
+        assertThrows(IllegalArgumentException.class,
+                () -> sortUtils.createSort("birthDate:UP"));
+        assertThrows(IllegalArgumentException.class,
+                () -> sortUtils.createSort("birthDate:ASC:DESC"));
+    }
+
+    @Test
+    void createSort_duplicateField_notOk() {
+        assertThrows(IllegalArgumentException.class,
+                () -> sortUtils.createSort("id:ASC;id:DESC"));
+    }
+}